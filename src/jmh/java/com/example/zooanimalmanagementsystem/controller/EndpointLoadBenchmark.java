@@ -0,0 +1,97 @@
+package com.example.zooanimalmanagementsystem.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives concurrent requests against a running instance at {@code ZOO_BASE_URL} (default
+ * {@code http://localhost:8080}). Run it once against the default thread pool and once with
+ * {@code zoo.threads.virtual=true} to compare latency percentiles of both execution modes. Start the instance with
+ * {@code spring.cache.type=none} as well: single animals are requested round-robin over all stored ids, but a warm
+ * animal cache would still answer them without touching the database the threading mode is meant to wait on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(400)
+@Fork(1)
+public class EndpointLoadBenchmark {
+
+    private static final Pattern ANIMAL_ID = Pattern.compile("\"animalId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final int MAX_ANIMALS = 100_000;
+
+    private final List<URI> animals = new ArrayList<>();
+    private final AtomicInteger nextAnimal = new AtomicInteger();
+    private HttpClient client;
+    private URI animalsPage;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        String baseUrl = System.getenv().getOrDefault("ZOO_BASE_URL", "http://localhost:8080") + "/v1/zoo";
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        animalsPage = URI.create(baseUrl + "/animals?limit=100");
+
+        URI page = URI.create(baseUrl + "/animals?limit=1000");
+        while (page != null && animals.size() < MAX_ANIMALS) {
+            String body = send(page);
+            Matcher animalIds = ANIMAL_ID.matcher(body);
+            while (animalIds.find()) {
+                animals.add(URI.create(baseUrl + "/animals/" + animalIds.group(1)));
+            }
+            Matcher nextCursor = NEXT_CURSOR.matcher(body);
+            page = nextCursor.find() ? URI.create(baseUrl + "/animals?limit=1000&after=" + nextCursor.group(1)) : null;
+        }
+        if (animals.isEmpty()) {
+            throw new IllegalStateException("Load test needs at least one stored animal at " + baseUrl);
+        }
+    }
+
+    @Benchmark
+    public String listAnimals() throws IOException, InterruptedException {
+        return send(animalsPage);
+    }
+
+    @Benchmark
+    public String findAnimal() throws IOException, InterruptedException {
+        return send(animals.get(Math.floorMod(nextAnimal.getAndIncrement(), animals.size())));
+    }
+
+    private String send(URI uri) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+
+        return response.body();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimalCollectionResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int animalCount;
+
+    private Slice<AnimalView> animals;
+
+    @Setup
+    public void setUp() {
+        UUID enclosureId = UUID.randomUUID();
+        List<AnimalView> content = new ArrayList<>(animalCount);
+        for (int i = 0; i < animalCount; i++) {
+            content.add(new AnimalView(UUID.randomUUID(), "Species " + i, i % 2 == 0 ? Food.CARNIVORE : Food.HERBIVORE, 3, enclosureId));
+        }
+        animals = new SliceImpl<>(content, PageRequest.ofSize(animalCount), true);
+    }
+
+    @Benchmark
+    public AnimalCollectionResponse mapSliceToResponse() {
+        return AnimalCollectionResponse.fromView(animals);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnclosureMutationBenchmark {
+
+    private Enclosure enclosure;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        enclosure = new Enclosure("Enclosure", "Huge", "Outside", List.of("Trees"));
+        enclosure.addAnimals(Food.HERBIVORE);
+    }
+
+    @Benchmark
+    public Enclosure addAndRemoveAnimal() {
+        enclosure.addAnimals(Food.CARNIVORE);
+        enclosure.removeAnimals(Food.CARNIVORE);
+        return enclosure;
+    }
+
+    @Benchmark
+    public Enclosure fillAndEmptyEnclosure() {
+        enclosure.removeAnimals(Food.HERBIVORE);
+        enclosure.addAnimals(Food.HERBIVORE);
+        return enclosure;
+    }
+}
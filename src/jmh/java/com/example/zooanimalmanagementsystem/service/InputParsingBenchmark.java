@@ -0,0 +1,73 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.model.SpooledMultipartFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class InputParsingBenchmark {
+
+    private static final String[] ANIMALS = {
+            "{\"species\":\"Lion\",\"food\":\"Carnivore\",\"amount\":3}",
+            "{\"species\":\"Giraffe\",\"food\":\"Herbivore\",\"amount\":2}",
+            "{\"species\":\"Zebra\",\"food\":\"Herbivore\",\"amount\":5}"
+    };
+
+    @Param({"1024", "1048576", "104857600", "524288000"})
+    private long payloadBytes;
+
+    @Param({"500"})
+    private int chunkSize;
+
+    private final InputReadingService inputReadingService = new InputReadingService();
+    private SpooledMultipartFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path path = Files.createTempFile("animals-benchmark-", ".json");
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\"animals\":[");
+            long written = 0;
+            for (int i = 0; written < payloadBytes; i++) {
+                String animal = (i == 0 ? "" : ",") + ANIMALS[i % ANIMALS.length];
+                writer.write(animal);
+                written += animal.length();
+            }
+            writer.write("]}");
+        }
+        file = new SpooledMultipartFile("file", "animals.json", "application/json", path);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        file.delete();
+    }
+
+    @Benchmark
+    public void parseAnimals(Blackhole blackhole) {
+        inputReadingService.retrieveAnimalsData(file, chunkSize, blackhole::consume);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementBenchmark {
+
+    private static final String[] SIZES = {"Small", "Medium", "Large", "Huge"};
+    private static final Food[] FOOD = Food.values();
+
+    @Param({"10", "1000", "100000"})
+    private int enclosureCount;
+
+    @Param({"CARNIVORE", "HERBIVORE"})
+    private Food food;
+
+    @Param({"3"})
+    private int amount;
+
+    private List<Enclosure> enclosures;
+    private EnclosurePlacementIndex placementIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        enclosures = new ArrayList<>(enclosureCount);
+        for (int i = 0; i < enclosureCount; i++) {
+            String size = SIZES[random.nextInt(SIZES.length)];
+            Enclosure enclosure = new Enclosure("Enclosure " + i, size, "Outside", List.of("Trees"));
+            enclosure.setFreeSpace(random.nextInt(enclosure.getFreeSpace() + 1));
+            for (int groups = random.nextInt(3); groups > 0; groups--) {
+                enclosure.addAnimals(FOOD[random.nextInt(FOOD.length)]);
+            }
+            enclosures.add(enclosure);
+        }
+        placementIndex = new EnclosurePlacementIndex();
+        placementIndex.load(enclosures);
+    }
+
+    @Benchmark
+    public Optional<Enclosure> scanForSuitableEnclosure() {
+        for (Enclosure enclosure : enclosures) {
+            if (ZooService.suitableEnclosureIsFound(enclosure, food, amount)) {
+                return Optional.of(enclosure);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<UUID> findCandidateFromIndex() {
+        return placementIndex.findCandidate(food, amount, Set.of());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.service.AnimalPlacementPlanner.PlacementPlan;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares planning time of both strategies. Placed and unplaced animals are reported as secondary results, so the
+ * quality of both plans shows up next to their cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementPlanBenchmark {
+
+    private static final String[] SIZES = {"Small", "Medium", "Large", "Huge"};
+    private static final String[] FOOD = {"Carnivore", "Herbivore"};
+
+    @Param({"1000", "10000"})
+    private int enclosureCount;
+
+    @Param({"0.95", "1.0"})
+    private double demand;
+
+    @Param({"IN_ORDER", "BEST_FIT_DECREASING"})
+    private PlacementStrategy strategy;
+
+    private List<Enclosure> enclosures;
+    private List<Animal> animals;
+    private final AnimalPlacementPlanner placementPlanner = new AnimalPlacementPlanner();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        enclosures = new ArrayList<>(enclosureCount);
+        int freeSpace = 0;
+        for (int i = 0; i < enclosureCount; i++) {
+            Enclosure enclosure = new Enclosure("Enclosure " + i, SIZES[random.nextInt(SIZES.length)], "Outside", List.of("Trees"));
+            freeSpace += enclosure.getFreeSpace();
+            enclosures.add(enclosure);
+        }
+        animals = new ArrayList<>();
+        for (int requested = 0; requested < freeSpace * demand; ) {
+            Animal animal = new Animal("Species", FOOD[random.nextInt(FOOD.length)], 1 + random.nextInt(8));
+            requested += animal.getAmount();
+            animals.add(animal);
+        }
+    }
+
+    @Benchmark
+    public PlacementPlan plan(PlacementCounters counters) {
+        PlacementPlan plan = placementPlanner.plan(animals, enclosures, strategy);
+        counters.placed += plan.report().placed();
+        counters.unplaced += plan.report().unplaced();
+
+        return plan;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PlacementCounters {
+
+        public long placed;
+        public long unplaced;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            placed = 0;
+            unplaced = 0;
+        }
+    }
+}
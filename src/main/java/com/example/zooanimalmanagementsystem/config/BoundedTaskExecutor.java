@@ -0,0 +1,41 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits how many tasks an unpooled executor accepts at once, rejecting the rest like a full pool queue would.
+ */
+class BoundedTaskExecutor implements TaskExecutor {
+
+    private final TaskExecutor delegate;
+    private final Semaphore permits;
+    private final int limit;
+
+    BoundedTaskExecutor(TaskExecutor delegate, int limit) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(limit);
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("Executor already runs " + limit + " tasks, rejected " + task);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+
+    public static final String ANIMALS_CACHE = "animals";
+}
@@ -0,0 +1,57 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts SQL statements Hibernate prepares while a request is handled on the servlet thread and records them per
+ * endpoint. Work handed off to other threads (async imports, streamed exports) is not attributed to the request.
+ */
+public class DatabaseStatementMetrics extends OncePerRequestFilter implements StatementInspector {
+
+    private final ThreadLocal<AtomicInteger> statements = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+
+    public DatabaseStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = statements.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+        return sql;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicInteger counter = new AtomicInteger();
+        statements.set(counter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.remove();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("zoo.db.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(counter.get());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@ConditionalOnProperty(name = "zoo.threads.virtual", havingValue = "false", matchIfMissing = true)
+public class ImportExecutorConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(
+            @Value("${zoo.import.pool-size:2}") int poolSize,
+            @Value("${zoo.import.queue-capacity:10}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("zoo-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+
+        return executor;
+    }
+
+    /**
+     * Defining {@code importExecutor} makes Spring Boot back off from its own executor, which would leave async MVC
+     * requests (such as the NDJSON export) on a thread-per-request {@code SimpleAsyncTaskExecutor}. Registering the
+     * executor under Boot's bean name restores the pool configured through {@code spring.task.execution.*}.
+     */
+    @Lazy
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import com.example.zooanimalmanagementsystem.service.ZooService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public DatabaseStatementMetrics databaseStatementMetrics(MeterRegistry meterRegistry) {
+        return new DatabaseStatementMetrics(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(DatabaseStatementMetrics databaseStatementMetrics) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, databaseStatementMetrics);
+    }
+
+    @Bean
+    public MeterBinder enclosureCapacityMetrics(@Lazy ZooService zooService) {
+        return registry -> {
+            Gauge.builder("zoo.enclosures.capacity", zooService, service -> service.getEnclosureCapacity().total())
+                    .description("Total number of animals all enclosures can hold")
+                    .register(registry);
+            Gauge.builder("zoo.enclosures.free.space", zooService, service -> service.getEnclosureCapacity().free())
+                    .description("Number of animals that can still be placed")
+                    .register(registry);
+        };
+    }
+}
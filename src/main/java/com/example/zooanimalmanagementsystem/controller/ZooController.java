@@ -2,43 +2,108 @@ package com.example.zooanimalmanagementsystem.controller;
 
 import com.example.zooanimalmanagementsystem.controller.model.AnimalCollectionResponse;
 import com.example.zooanimalmanagementsystem.controller.model.AnimalResponse;
+import com.example.zooanimalmanagementsystem.controller.model.BatchResponse;
+import com.example.zooanimalmanagementsystem.controller.model.BatchUpdateAnimalRequest;
 import com.example.zooanimalmanagementsystem.controller.model.CreateAnimalRequest;
+import com.example.zooanimalmanagementsystem.controller.model.EnclosureCollectionResponse;
+import com.example.zooanimalmanagementsystem.controller.model.EnclosureStatsResponse;
+import com.example.zooanimalmanagementsystem.controller.model.ImportJobResponse;
+import com.example.zooanimalmanagementsystem.controller.model.PlacementSimulationResponse;
 import com.example.zooanimalmanagementsystem.controller.model.UpdateAnimalRequest;
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import com.example.zooanimalmanagementsystem.service.ImportJobService;
+import com.example.zooanimalmanagementsystem.service.UploadSpooler;
 import com.example.zooanimalmanagementsystem.service.ZooService;
+import com.example.zooanimalmanagementsystem.service.model.LoadMethod;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @RestController
+@Validated
 @RequestMapping("/v1/zoo")
 public class ZooController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_SIMULATION_SIZE = 100_000;
+
     private final ZooService zooService;
+    private final ImportJobService importJobService;
+    private final UploadSpooler uploadSpooler;
+    private final ObjectMapper objectMapper;
 
-    public ZooController(ZooService zooService) {
+    public ZooController(
+            ZooService zooService, ImportJobService importJobService, UploadSpooler uploadSpooler, ObjectMapper objectMapper
+    ) {
         this.zooService = zooService;
+        this.importJobService = importJobService;
+        this.uploadSpooler = uploadSpooler;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/animals")
-    public AnimalCollectionResponse findAll() {
-        return AnimalCollectionResponse.fromEntity(zooService.findAllAnimals());
+    public AnimalCollectionResponse findAll(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "Page limit should not be less than 1.")
+            @Max(value = 1000, message = "Page limit should not be greater than 1000.")
+            int limit
+    ) {
+        return AnimalCollectionResponse.fromView(zooService.findAnimals(after, limit));
+    }
+
+    @GetMapping("/animals/export")
+    public ResponseEntity<StreamingResponseBody> exportAnimals() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                AtomicInteger written = new AtomicInteger();
+                zooService.forEachAnimal(animal -> writeLine(generator, AnimalResponse.fromView(animal), written.getAndIncrement()));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/animals/{animalId}")
     public AnimalResponse findById(@PathVariable UUID animalId) {
-        return AnimalResponse.fromEntity(zooService.findAnimalById(animalId));
+        return AnimalResponse.fromView(zooService.findAnimalViewById(animalId));
     }
 
     @PostMapping("/animals")
@@ -57,15 +122,177 @@ public class ZooController {
         zooService.deleteAnimalById(animalId);
     }
 
-    @PostMapping("/upload/animals")
-    public String saveAnimals(@RequestParam MultipartFile file) {
-        zooService.storeAnimals(file);
+    @PostMapping("/animals/batch")
+    public BatchResponse<AnimalResponse> addAnimals(
+            @RequestBody
+            @Size(min = 1, max = MAX_BATCH_SIZE, message = "Batch should contain from 1 to 1000 items.")
+            List<@Valid CreateAnimalRequest> createAnimalRequests
+    ) {
+        List<Animal> animals = createAnimalRequests.stream().map(CreateAnimalRequest::toEntity).toList();
+        return BatchResponse.fromResults(zooService.saveAnimals(animals), AnimalResponse::fromEntity);
+    }
+
+    @PutMapping("/animals/batch")
+    public BatchResponse<AnimalResponse> updateAnimals(
+            @RequestBody
+            @Size(min = 1, max = MAX_BATCH_SIZE, message = "Batch should contain from 1 to 1000 items.")
+            List<@Valid BatchUpdateAnimalRequest> updateAnimalRequests
+    ) {
+        List<Animal> animals = updateAnimalRequests.stream().map(BatchUpdateAnimalRequest::toEntity).toList();
+        return BatchResponse.fromResults(zooService.updateAnimals(animals), AnimalResponse::fromEntity);
+    }
+
+    @DeleteMapping("/animals/batch")
+    public BatchResponse<UUID> deleteAnimals(
+            @RequestBody
+            @Size(min = 1, max = MAX_BATCH_SIZE, message = "Batch should contain from 1 to 1000 items.")
+            List<@NotNull UUID> animalIds
+    ) {
+        return BatchResponse.fromResults(zooService.deleteAnimalsByIds(animalIds), Function.identity());
+    }
+
+    @GetMapping("/enclosures")
+    public EnclosureCollectionResponse findEnclosures(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false)
+            @Min(value = 0, message = "Free space should not be less than 0.")
+            Integer freeSpace,
+            @RequestParam(required = false) List<String> objects,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "Page limit should not be less than 1.")
+            @Max(value = 1000, message = "Page limit should not be greater than 1000.")
+            int limit
+    ) {
+        EnclosureFilter filter = new EnclosureFilter(location, size, freeSpace, objects);
+        return EnclosureCollectionResponse.fromEntity(zooService.findEnclosures(filter, after, limit));
+    }
+
+    @GetMapping("/enclosures/stats")
+    public EnclosureStatsResponse getEnclosureStats() {
+        return EnclosureStatsResponse.fromStats(zooService.getEnclosureStats());
+    }
+
+    @PostMapping("/placements/simulate")
+    public PlacementSimulationResponse simulatePlacement(
+            @RequestBody
+            @Size(min = 1, max = MAX_SIMULATION_SIZE, message = "Simulation should contain from 1 to 100000 animals.")
+            List<@Valid CreateAnimalRequest> createAnimalRequests,
+            @RequestParam(defaultValue = "IN_ORDER") PlacementStrategy placement
+    ) {
+        List<Animal> animals = createAnimalRequests.stream().map(CreateAnimalRequest::toEntity).toList();
+        return PlacementSimulationResponse.fromSimulation(animals, zooService.simulatePlacement(animals, placement));
+    }
+
+    @PostMapping(value = "/upload/animals", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public String saveAnimals(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = "IN_ORDER") PlacementStrategy placement,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        zooService.storeAnimals(file, placement, load);
         return "Successfully read data from file: " + file.getOriginalFilename();
     }
 
-    @PostMapping("/upload/enclosures")
-    public String saveEnclosures(@RequestParam MultipartFile file) {
-        zooService.storeEnclosures(file);
+    @PostMapping(value = "/upload/enclosures", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public String saveEnclosures(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        zooService.storeEnclosures(file, load);
         return "Successfully read data from file: " + file.getOriginalFilename();
     }
+
+    @PostMapping(value = "/upload/animals", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    public String saveAnimalsFromBody(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) String filename,
+            @RequestParam(defaultValue = "IN_ORDER") PlacementStrategy placement,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        uploadSpooler.withSpooledUpload(body, filename, contentType, file -> zooService.storeAnimals(file, placement, load));
+        return "Successfully read data from request body";
+    }
+
+    @PostMapping(value = "/upload/enclosures", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    public String saveEnclosuresFromBody(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) String filename,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        uploadSpooler.withSpooledUpload(body, filename, contentType, file -> zooService.storeEnclosures(file, load));
+        return "Successfully read data from request body";
+    }
+
+    @PostMapping(value = "/upload/animals", params = "mode=async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportJobResponse saveAnimalsAsync(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = "IN_ORDER") PlacementStrategy placement,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        return ImportJobResponse.fromJob(importJobService.submitAnimalsImport(file, placement, load));
+    }
+
+    @PostMapping(value = "/upload/enclosures", params = "mode=async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportJobResponse saveEnclosuresAsync(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        return ImportJobResponse.fromJob(importJobService.submitEnclosuresImport(file, load));
+    }
+
+    @PostMapping(value = "/upload/animals", params = "mode=async", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportJobResponse saveAnimalsFromBodyAsync(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) String filename,
+            @RequestParam(defaultValue = "IN_ORDER") PlacementStrategy placement,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        return ImportJobResponse.fromJob(importJobService.submitAnimalsImport(
+                uploadSpooler.spool(body, filename, contentType), placement, load));
+    }
+
+    @PostMapping(value = "/upload/enclosures", params = "mode=async", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportJobResponse saveEnclosuresFromBodyAsync(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) String filename,
+            @RequestParam(defaultValue = "BATCH") LoadMethod load
+    ) {
+        return ImportJobResponse.fromJob(importJobService.submitEnclosuresImport(
+                uploadSpooler.spool(body, filename, contentType), load));
+    }
+
+    @GetMapping("/imports/{jobId}")
+    public ImportJobResponse findImportJob(@PathVariable UUID jobId) {
+        return ImportJobResponse.fromJob(importJobService.findJobById(jobId));
+    }
+
+    private void writeLine(JsonGenerator generator, Object value, int index) {
+        try {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+            if (index % EXPORT_FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
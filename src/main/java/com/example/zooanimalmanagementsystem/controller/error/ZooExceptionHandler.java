@@ -1,13 +1,20 @@
 package com.example.zooanimalmanagementsystem.controller.error;
 
 import com.example.zooanimalmanagementsystem.controller.error.model.ApiError;
+import com.example.zooanimalmanagementsystem.controller.error.model.ImportValidationApiError;
 import com.example.zooanimalmanagementsystem.service.exception.AnimalNotFoundException;
 import com.example.zooanimalmanagementsystem.service.exception.EnclosureNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobRejectedException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
 import com.example.zooanimalmanagementsystem.service.exception.InputFileNotAvailableException;
+import com.example.zooanimalmanagementsystem.service.exception.UploadTooLargeException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 
@@ -37,4 +44,41 @@ public class ZooExceptionHandler {
         ApiError apiError = new ApiError(HttpStatus.NOT_FOUND, exc.getMessage(), LocalDateTime.now());
         return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler
+    public ResponseEntity<ApiError> handleException(ImportJobNotFoundException exc) {
+        ApiError apiError = new ApiError(HttpStatus.NOT_FOUND, exc.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ApiError> handleException(ImportJobRejectedException exc) {
+        ApiError apiError = new ApiError(HttpStatus.SERVICE_UNAVAILABLE, exc.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(apiError, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ApiError> handleException(UploadTooLargeException exc) {
+        ApiError apiError = new ApiError(HttpStatus.PAYLOAD_TOO_LARGE, exc.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(apiError, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ApiError> handleException(MaxUploadSizeExceededException exc) {
+        ApiError apiError = new ApiError(HttpStatus.PAYLOAD_TOO_LARGE, exc.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(apiError, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ImportValidationApiError> handleException(ImportValidationException exc) {
+        ImportValidationApiError apiError = new ImportValidationApiError(
+                HttpStatus.BAD_REQUEST, exc.getMessage(), LocalDateTime.now(), exc.getErrors(), exc.getErrorCount());
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ApiError> handleException(HttpMediaTypeNotSupportedException exc) {
+        ApiError apiError = new ApiError(HttpStatus.UNSUPPORTED_MEDIA_TYPE, exc.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(apiError, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.zooanimalmanagementsystem.controller.error.model;
+
+import com.example.zooanimalmanagementsystem.service.model.ImportValidationError;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ImportValidationApiError(
+        HttpStatus httpStatus,
+        String message,
+        LocalDateTime localDateTime,
+        List<ImportValidationError> errors,
+        int errorCount
+) {
+
+}
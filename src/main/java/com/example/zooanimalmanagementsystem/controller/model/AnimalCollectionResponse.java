@@ -1,16 +1,25 @@
 package com.example.zooanimalmanagementsystem.controller.model;
 
-import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.UUID;
 
-public record AnimalCollectionResponse(List<AnimalResponse> animals) {
+public record AnimalCollectionResponse(
+        List<AnimalResponse> animals,
 
-    public static AnimalCollectionResponse fromEntity(List<Animal> animals) {
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        UUID nextCursor
+) {
+
+    public static AnimalCollectionResponse fromView(Slice<AnimalView> animals) {
         List<AnimalResponse> responses = animals.stream()
-                .map(AnimalResponse::fromEntity)
+                .map(AnimalResponse::fromView)
                 .toList();
+        UUID nextCursor = animals.hasNext() ? responses.get(responses.size() - 1).animalId() : null;
 
-        return new AnimalCollectionResponse(responses);
+        return new AnimalCollectionResponse(responses, nextCursor);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.zooanimalmanagementsystem.controller.model;
 
 import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
 
 import java.util.UUID;
 
@@ -10,9 +11,19 @@ public record AnimalResponse(UUID animalId, String species, String food, int amo
         return new AnimalResponse(
                 animal.getId(),
                 animal.getSpecies(),
-                animal.getFood(),
+                animal.getFood().getLabel(),
                 animal.getAmount(),
                 animal.getEnclosureId()
         );
     }
+
+    public static AnimalResponse fromView(AnimalView animal) {
+        return new AnimalResponse(
+                animal.id(),
+                animal.species(),
+                animal.food().getLabel(),
+                animal.amount(),
+                animal.enclosureId()
+        );
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.service.model.BatchItemResult;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record BatchResponse<T>(int succeeded, int failed, List<BatchItemResponse<T>> items) {
+
+    public static <S, T> BatchResponse<T> fromResults(List<BatchItemResult<S>> results, Function<S, T> mapper) {
+        List<BatchItemResponse<T>> items = results.stream()
+                .map(result -> new BatchItemResponse<>(
+                        result.index(),
+                        result.isSucceeded() ? mapper.apply(result.result()) : null,
+                        result.error()
+                ))
+                .toList();
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSucceeded).count();
+
+        return new BatchResponse<>(succeeded, results.size() - succeeded, items);
+    }
+
+    public record BatchItemResponse<T>(int index, T result, String error) {
+    }
+}
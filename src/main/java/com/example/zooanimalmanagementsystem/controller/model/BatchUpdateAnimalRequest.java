@@ -0,0 +1,27 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record BatchUpdateAnimalRequest(
+        @NotNull(message = "Animal id is required.")
+        UUID animalId,
+
+        @NotBlank(message = "Species is required.")
+        String species,
+
+        @Min(value = 1, message = "Animal amount should not be less than 1.")
+        int amount
+) {
+
+    public Animal toEntity() {
+        Animal animal = new Animal(species, amount);
+        animal.setId(animalId);
+
+        return animal;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.UUID;
+
+public record EnclosureCollectionResponse(
+        List<EnclosureResponse> enclosures,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        UUID nextCursor
+) {
+
+    public static EnclosureCollectionResponse fromEntity(Slice<Enclosure> enclosures) {
+        List<EnclosureResponse> responses = enclosures.stream()
+                .map(EnclosureResponse::fromEntity)
+                .toList();
+        UUID nextCursor = enclosures.hasNext() ? responses.get(responses.size() - 1).enclosureId() : null;
+
+        return new EnclosureCollectionResponse(responses, nextCursor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+
+import java.util.List;
+import java.util.UUID;
+
+public record EnclosureResponse(
+        UUID enclosureId,
+        String name,
+        String size,
+        String location,
+        List<String> objects,
+        int capacity,
+        int freeSpace,
+        int carnivoreGroups,
+        int herbivoreGroups
+) {
+
+    public static EnclosureResponse fromEntity(Enclosure enclosure) {
+        return new EnclosureResponse(
+                enclosure.getId(),
+                enclosure.getName(),
+                enclosure.getSize(),
+                enclosure.getLocation(),
+                enclosure.getObjects(),
+                enclosure.getCapacity(),
+                enclosure.getFreeSpace(),
+                enclosure.getCarnivoreGroups(),
+                enclosure.getHerbivoreGroups()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats;
+
+import java.util.List;
+
+public record EnclosureStatsResponse(
+        int enclosures,
+        int totalCapacity,
+        int freeSpace,
+        double utilisationPercent,
+        int carnivoreGroups,
+        int herbivoreGroups,
+        List<SizeClassResponse> sizeClasses
+) {
+
+    public static EnclosureStatsResponse fromStats(EnclosureStats stats) {
+        return new EnclosureStatsResponse(
+                stats.enclosures(),
+                stats.capacity(),
+                stats.freeSpace(),
+                Math.round(stats.utilisation() * 1000) / 10.0,
+                stats.carnivoreGroups(),
+                stats.herbivoreGroups(),
+                stats.sizeClasses().stream()
+                        .map(sizeClass -> new SizeClassResponse(
+                                sizeClass.size(), sizeClass.enclosures(), sizeClass.capacity(), sizeClass.freeSpace()))
+                        .toList()
+        );
+    }
+
+    public record SizeClassResponse(String size, int enclosures, int capacity, int freeSpace) {
+    }
+}
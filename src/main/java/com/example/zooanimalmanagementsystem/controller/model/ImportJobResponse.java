@@ -0,0 +1,33 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.service.model.ImportJob;
+import com.example.zooanimalmanagementsystem.service.model.ImportJobStatus;
+
+import java.util.UUID;
+
+public record ImportJobResponse(
+        UUID jobId,
+        String dataType,
+        String fileName,
+        ImportJobStatus status,
+        int recordsProcessed,
+        int recordsFailed,
+        double recordsPerSecond,
+        long elapsedMillis,
+        String error
+) {
+
+    public static ImportJobResponse fromJob(ImportJob job) {
+        return new ImportJobResponse(
+                job.getId(),
+                job.getDataType(),
+                job.getFileName(),
+                job.getStatus(),
+                job.getRecordsProcessed(),
+                job.getRecordsFailed(),
+                job.getRecordsPerSecond(),
+                job.getElapsedTime().toMillis(),
+                job.getError()
+        );
+    }
+}
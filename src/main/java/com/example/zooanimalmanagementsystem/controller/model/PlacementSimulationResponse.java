@@ -0,0 +1,48 @@
+package com.example.zooanimalmanagementsystem.controller.model;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.service.model.PlacementSimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public record PlacementSimulationResponse(
+        String strategy,
+        int placed,
+        int unplaced,
+        double utilisationPercent,
+        List<AssignmentResponse> assignments,
+        List<UnplaceableAnimalResponse> unplaceable
+) {
+
+    public static PlacementSimulationResponse fromSimulation(List<Animal> animals, PlacementSimulation simulation) {
+        List<AssignmentResponse> assignments = new ArrayList<>();
+        List<UnplaceableAnimalResponse> unplaceable = new ArrayList<>();
+        for (int i = 0; i < animals.size(); i++) {
+            Animal animal = animals.get(i);
+            UUID enclosureId = simulation.enclosureIds().get(i);
+            if (enclosureId == null) {
+                unplaceable.add(new UnplaceableAnimalResponse(
+                        i, animal.getSpecies(), animal.getFood().getLabel(), animal.getAmount()));
+            } else {
+                assignments.add(new AssignmentResponse(i, animal.getSpecies(), enclosureId));
+            }
+        }
+
+        return new PlacementSimulationResponse(
+                simulation.report().strategy().name(),
+                simulation.report().placed(),
+                simulation.report().unplaced(),
+                Math.round(simulation.utilisation() * 1000) / 10.0,
+                assignments,
+                unplaceable
+        );
+    }
+
+    public record AssignmentResponse(int index, String species, UUID enclosureId) {
+    }
+
+    public record UnplaceableAnimalResponse(int index, String species, String food, int amount) {
+    }
+}
@@ -1,11 +1,59 @@
 package com.example.zooanimalmanagementsystem.repository;
 
 import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface AnimalRepository extends JpaRepository<Animal, UUID> {
+
+    String VIEW = "new com.example.zooanimalmanagementsystem.repository.model.AnimalView(" +
+                  "a.id, a.species, a.food, a.amount, a.enclosureId)";
+
+    @Query("SELECT " + VIEW + " FROM Animal a")
+    Slice<AnimalView> findViews(Pageable pageable);
+
+    @Query("SELECT " + VIEW + " FROM Animal a WHERE a.id > :id")
+    Slice<AnimalView> findViewsByIdGreaterThan(@Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT " + VIEW + " FROM Animal a WHERE a.id = :id")
+    Optional<AnimalView> findViewById(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Animal a WHERE a.id = :id")
+    Optional<Animal> findByIdForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Animal a WHERE a.id IN :ids ORDER BY a.id")
+    List<Animal> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT " + VIEW + " FROM Animal a")
+    Stream<AnimalView> streamViews();
+
+    @Modifying
+    @Query("DELETE FROM Animal a WHERE a.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM Animal a WHERE a.id IN :ids")
+    int removeAllById(@Param("ids") Collection<UUID> ids);
 }
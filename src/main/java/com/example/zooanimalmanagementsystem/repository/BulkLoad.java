@@ -0,0 +1,94 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * An open {@code COPY ... FROM STDIN} into a staging table. Rows are streamed as CSV with {@link #write};
+ * {@link #finish} ends the copy and merges the staging table into the target tables. Closing an unfinished load
+ * cancels the copy. Closing always returns the connection.
+ */
+public class BulkLoad<T> implements AutoCloseable {
+
+    private final Connection connection;
+    private final DataSource dataSource;
+    private final SQLExceptionTranslator exceptionTranslator;
+    private final CopyIn copyIn;
+    private final BiConsumer<StringBuilder, T> rowFormatter;
+    private final List<String> mergeStatements;
+    private final StringBuilder buffer = new StringBuilder();
+
+    BulkLoad(
+            Connection connection,
+            DataSource dataSource,
+            SQLExceptionTranslator exceptionTranslator,
+            CopyIn copyIn,
+            BiConsumer<StringBuilder, T> rowFormatter,
+            List<String> mergeStatements
+    ) {
+        this.connection = connection;
+        this.dataSource = dataSource;
+        this.exceptionTranslator = exceptionTranslator;
+        this.copyIn = copyIn;
+        this.rowFormatter = rowFormatter;
+        this.mergeStatements = mergeStatements;
+    }
+
+    public void write(Collection<? extends T> rows) {
+        buffer.setLength(0);
+        for (T row : rows) {
+            rowFormatter.accept(buffer, row);
+            buffer.append('\n');
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("Bulk load copy", null, e);
+        }
+    }
+
+    /**
+     * Ends the copy and runs the merge statements.
+     *
+     * @return number of rows inserted by the last merge statement
+     */
+    public int finish() {
+        try {
+            copyIn.endCopy();
+            int merged = 0;
+            try (Statement statement = connection.createStatement()) {
+                for (String mergeStatement : mergeStatements) {
+                    merged = statement.executeUpdate(mergeStatement);
+                }
+            }
+
+            return merged;
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("Bulk load merge", null, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("Bulk load cancel", null, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
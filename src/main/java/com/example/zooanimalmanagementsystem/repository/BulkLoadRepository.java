@@ -0,0 +1,208 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Loads rows with PostgreSQL {@code COPY} into temporary staging tables and merges them with set-based SQL.
+ * Staging tables are dropped on commit, so every load has to run inside a transaction.
+ */
+@Repository
+public class BulkLoadRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BulkLoadRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BulkLoad<Enclosure> loadEnclosures() {
+        return open(
+                """
+                CREATE TEMPORARY TABLE enclosure_staging (
+                    id UUID,
+                    name VARCHAR(255),
+                    size VARCHAR(255),
+                    location VARCHAR(255),
+                    objects TEXT[],
+                    free_space INT
+                ) ON COMMIT DROP
+                """,
+                "COPY enclosure_staging (id, name, size, location, objects, free_space) FROM STDIN (FORMAT csv)",
+                BulkLoadRepository::appendEnclosure,
+                List.of(
+                        """
+                        INSERT INTO enclosure_object (name)
+                        SELECT DISTINCT item.name
+                        FROM enclosure_staging, unnest(enclosure_staging.objects) AS item(name)
+                        WHERE item.name IS NOT NULL
+                        ON CONFLICT (name) DO NOTHING
+                        """,
+                        """
+                        INSERT INTO enclosure (id, name, size, location, object_ids, free_space, carnivore_groups, herbivore_groups)
+                        SELECT s.id, s.name, s.size, s.location,
+                               CASE WHEN s.objects IS NULL THEN NULL ELSE ARRAY(
+                                   SELECT enclosure_object.id
+                                   FROM unnest(s.objects) WITH ORDINALITY AS item(name, ordinal)
+                                   JOIN enclosure_object ON enclosure_object.name = item.name
+                                   ORDER BY item.ordinal
+                               ) END,
+                               s.free_space, 0, 0
+                        FROM enclosure_staging s
+                        """
+                )
+        );
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BulkLoad<Animal> loadAnimals() {
+        return open(
+                """
+                CREATE TEMPORARY TABLE animal_staging (
+                    id UUID,
+                    species VARCHAR(50),
+                    food SMALLINT,
+                    amount INT,
+                    enclosure_id UUID
+                ) ON COMMIT DROP
+                """,
+                "COPY animal_staging (id, species, food, amount, enclosure_id) FROM STDIN (FORMAT csv)",
+                BulkLoadRepository::appendAnimal,
+                List.of(
+                        """
+                        INSERT INTO species (name)
+                        SELECT DISTINCT species FROM animal_staging
+                        WHERE species IS NOT NULL
+                        ON CONFLICT (name) DO NOTHING
+                        """,
+                        """
+                        INSERT INTO animal (id, species_id, food, amount, enclosure_id)
+                        SELECT s.id, species.id, s.food, s.amount, s.enclosure_id
+                        FROM animal_staging s
+                        LEFT JOIN species ON species.name = s.species
+                        """
+                )
+        );
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int updateEnclosureCounters(Collection<Enclosure> enclosures) {
+        try (BulkLoad<Enclosure> load = open(
+                """
+                CREATE TEMPORARY TABLE enclosure_counter_staging (
+                    id UUID,
+                    free_space INT,
+                    carnivore_groups INT,
+                    herbivore_groups INT
+                ) ON COMMIT DROP
+                """,
+                "COPY enclosure_counter_staging (id, free_space, carnivore_groups, herbivore_groups) FROM STDIN (FORMAT csv)",
+                BulkLoadRepository::appendEnclosureCounters,
+                List.of(
+                        """
+                        UPDATE enclosure
+                        SET free_space = s.free_space,
+                            carnivore_groups = s.carnivore_groups,
+                            herbivore_groups = s.herbivore_groups
+                        FROM enclosure_counter_staging s
+                        WHERE enclosure.id = s.id
+                        """
+                )
+        )) {
+            load.write(enclosures);
+            return load.finish();
+        }
+    }
+
+    private <T> BulkLoad<T> open(
+            String createStagingTable, String copy, BiConsumer<StringBuilder, T> rowFormatter, List<String> mergeStatements
+    ) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(createStagingTable);
+            }
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy);
+
+            return new BulkLoad<>(
+                    connection, dataSource, jdbcTemplate.getExceptionTranslator(), copyIn, rowFormatter, mergeStatements);
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw jdbcTemplate.getExceptionTranslator().translate("Bulk load", copy, e);
+        }
+    }
+
+    private static void appendEnclosure(StringBuilder row, Enclosure enclosure) {
+        row.append(enclosure.getId()).append(',');
+        appendText(row, enclosure.getName());
+        row.append(',');
+        appendText(row, enclosure.getSize());
+        row.append(',');
+        appendText(row, enclosure.getLocation());
+        row.append(',');
+        appendText(row, arrayLiteral(enclosure.getObjects()));
+        row.append(',').append(enclosure.getFreeSpace());
+    }
+
+    private static void appendAnimal(StringBuilder row, Animal animal) {
+        row.append(animal.getId()).append(',');
+        appendText(row, animal.getSpecies());
+        row.append(',');
+        if (animal.getFood() != null) {
+            row.append(animal.getFood().getCode());
+        }
+        row.append(',').append(animal.getAmount()).append(',');
+        if (animal.getEnclosureId() != null) {
+            row.append(animal.getEnclosureId());
+        }
+    }
+
+    private static void appendEnclosureCounters(StringBuilder row, Enclosure enclosure) {
+        row.append(enclosure.getId())
+                .append(',').append(enclosure.getFreeSpace())
+                .append(',').append(enclosure.getCarnivoreGroups())
+                .append(',').append(enclosure.getHerbivoreGroups());
+    }
+
+    private static void appendText(StringBuilder row, String value) {
+        if (value != null) {
+            row.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private static String arrayLiteral(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        StringBuilder literal = new StringBuilder("{");
+        for (String value : values) {
+            if (literal.length() > 1) {
+                literal.append(',');
+            }
+            if (value == null) {
+                literal.append("NULL");
+            } else {
+                literal.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            }
+        }
+
+        return literal.append('}').toString();
+    }
+}
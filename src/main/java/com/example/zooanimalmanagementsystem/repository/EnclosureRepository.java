@@ -1,11 +1,86 @@
 package com.example.zooanimalmanagementsystem.repository;
 
 import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureOccupancy;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EnclosureRepository extends JpaRepository<Enclosure, UUID> {
+public interface EnclosureRepository extends JpaRepository<Enclosure, UUID>, EnclosureSearchRepository {
+
+    String OCCUPANCY = "new com.example.zooanimalmanagementsystem.repository.model.EnclosureOccupancy(" +
+                       "e.id, e.size, e.freeSpace, e.carnivoreGroups, e.herbivoreGroups)";
+
+    String BEST_FIT_ID_FOR_HERBIVORES = """
+            SELECT id FROM enclosure
+            WHERE free_space >= :amount
+            ORDER BY free_space
+            LIMIT 1
+            """;
+
+    String BEST_FIT_ID_FOR_CARNIVORES = """
+            SELECT id FROM enclosure
+            WHERE free_space >= :amount
+              AND carnivore_groups <= 1
+            ORDER BY free_space
+            LIMIT 1
+            """;
+
+    @Query("SELECT " + OCCUPANCY + " FROM Enclosure e")
+    List<EnclosureOccupancy> findAllOccupancies();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enclosure e WHERE e.id = :id")
+    Optional<Enclosure> findByIdForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enclosure e WHERE e.id IN :ids ORDER BY e.id")
+    List<Enclosure> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Query(value = BEST_FIT_ID_FOR_HERBIVORES, nativeQuery = true)
+    Optional<UUID> findBestFitIdForHerbivores(@Param("amount") int amount);
+
+    @Query(value = BEST_FIT_ID_FOR_CARNIVORES, nativeQuery = true)
+    Optional<UUID> findBestFitIdForCarnivores(@Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE enclosure
+            SET free_space = free_space - :amount,
+                carnivore_groups = carnivore_groups + CASE WHEN :carnivore THEN 1 ELSE 0 END,
+                herbivore_groups = herbivore_groups + CASE WHEN :carnivore THEN 0 ELSE 1 END
+            WHERE id = :id
+              AND free_space >= :amount
+              AND (NOT :carnivore OR carnivore_groups <= 1)
+            """, nativeQuery = true)
+    int reserveSpaceForAnimal(@Param("id") UUID id, @Param("amount") int amount, @Param("carnivore") boolean carnivore);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE enclosure
+            SET free_space = free_space + :amount,
+                carnivore_groups = GREATEST(carnivore_groups - CASE WHEN :carnivore THEN 1 ELSE 0 END, 0),
+                herbivore_groups = GREATEST(herbivore_groups - CASE WHEN :carnivore THEN 0 ELSE 1 END, 0)
+            WHERE id = :id
+            """, nativeQuery = true)
+    int releaseSpaceOfAnimal(@Param("id") UUID id, @Param("amount") int amount, @Param("carnivore") boolean carnivore);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE enclosure
+            SET free_space = free_space - :amount
+            WHERE id = :id
+              AND free_space >= :amount
+            """, nativeQuery = true)
+    int reserveSpace(@Param("id") UUID id, @Param("amount") int amount);
 }
@@ -0,0 +1,12 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+
+public interface EnclosureSearchRepository {
+
+    Slice<Enclosure> findByFilter(EnclosureFilter filter, UUID after, int limit);
+}
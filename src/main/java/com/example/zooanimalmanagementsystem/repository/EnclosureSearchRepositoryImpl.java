@@ -0,0 +1,94 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the enclosure query from the filters that are actually set, so every combination gets a plan
+ * that can use its own index instead of one generic plan full of {@code IS NULL} checks.
+ */
+class EnclosureSearchRepositoryImpl implements EnclosureSearchRepository {
+
+    private final EntityManager entityManager;
+    private final NameDictionary objectDictionary;
+
+    EnclosureSearchRepositoryImpl(EntityManager entityManager, NameDictionaries dictionaries) {
+        this.entityManager = entityManager;
+        objectDictionary = dictionaries.enclosureObjects();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Slice<Enclosure> findByFilter(EnclosureFilter filter, UUID after, int limit) {
+        List<Integer> objectIds = new ArrayList<>(filter.objects().size());
+        for (String object : filter.objects()) {
+            Optional<Integer> objectId = objectDictionary.findId(object);
+            if (objectId.isEmpty()) {
+                return new SliceImpl<>(List.of(), PageRequest.ofSize(limit), false);
+            }
+            objectIds.add(objectId.get());
+        }
+
+        SearchQuery search = searchQuery(filter, objectIds, after, limit);
+        Query query = entityManager.createNativeQuery(search.sql(), Enclosure.class);
+        search.parameters().forEach(query::setParameter);
+        List<Enclosure> enclosures = new ArrayList<>(query.getResultList());
+        boolean hasNext = enclosures.size() > limit;
+        if (hasNext) {
+            enclosures.remove(limit);
+        }
+
+        return new SliceImpl<>(enclosures, PageRequest.ofSize(limit), hasNext);
+    }
+
+    /**
+     * Builds the SQL and its named parameters for one page of enclosures matching the filter, fetching one row
+     * more than the limit to tell whether another page follows.
+     */
+    static SearchQuery searchQuery(EnclosureFilter filter, List<Integer> objectIds, UUID after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM enclosure WHERE TRUE");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filter.location() != null) {
+            sql.append(" AND location = :location");
+            parameters.put("location", filter.location());
+        }
+        if (filter.size() != null) {
+            sql.append(" AND size = :size");
+            parameters.put("size", filter.size());
+        }
+        if (filter.minFreeSpace() != null) {
+            sql.append(" AND free_space >= :minFreeSpace");
+            parameters.put("minFreeSpace", filter.minFreeSpace());
+        }
+        if (!objectIds.isEmpty()) {
+            sql.append(" AND object_ids @> CAST(:objectIds AS integer[])");
+            parameters.put("objectIds", objectIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",", "{", "}")));
+        }
+        if (after != null) {
+            sql.append(" AND id > :after");
+            parameters.put("after", after);
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        parameters.put("limit", limit + 1);
+
+        return new SearchQuery(sql.toString(), parameters);
+    }
+
+    record SearchQuery(String sql, Map<String, Object> parameters) {
+    }
+}
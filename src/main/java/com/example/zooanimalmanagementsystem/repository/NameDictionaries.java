@@ -0,0 +1,38 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Shares one {@link NameDictionary} per lookup table between the converters that read and write the ids and the
+ * service, which resolves the names of a whole chunk before it is flushed.
+ */
+@Component
+public class NameDictionaries {
+
+    private final NameDictionary species;
+    private final NameDictionary enclosureObjects;
+
+    public NameDictionaries(JdbcTemplate jdbcTemplate) {
+        species = new NameDictionary(jdbcTemplate, "species");
+        enclosureObjects = new NameDictionary(jdbcTemplate, "enclosure_object");
+    }
+
+    public NameDictionary species() {
+        return species;
+    }
+
+    public NameDictionary enclosureObjects() {
+        return enclosureObjects;
+    }
+
+    public void resolveSpecies(Collection<String> names) {
+        species.resolve(names);
+    }
+
+    public void resolveEnclosureObjects(Collection<String> names) {
+        enclosureObjects.resolve(names);
+    }
+}
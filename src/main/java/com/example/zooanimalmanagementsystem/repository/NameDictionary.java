@@ -0,0 +1,186 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Maps repeated names to ids of a {@code (id, name)} lookup table. Names are cached as a single instance per id,
+ * so entities sharing a name share the string. New names are cached only after their transaction commits; until
+ * then their ids live in a map bound to the transaction that inserted them.
+ */
+public class NameDictionary {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    public NameDictionary(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+    }
+
+    /**
+     * Looks up the ids of the given names with one set-based insert of the names that are not known yet and one
+     * select of the names another transaction stored first, so {@link #idOf(String)} can answer from memory while
+     * the entities are flushed. The insert does nothing on conflict, so no existing row gets locked.
+     */
+    public void resolve(Collection<String> namesToResolve) {
+        loadIfNeeded();
+        String[] unresolvedNames = namesToResolve.stream()
+                .filter(Objects::nonNull)
+                .filter(name -> cachedId(name) == null)
+                .distinct()
+                .toArray(String[]::new);
+        if (unresolvedNames.length == 0) {
+            return;
+        }
+        Map<String, Integer> transactionIds = transactionIds();
+        jdbcTemplate.query(
+                "INSERT INTO " + table + " (name) SELECT unnest(?) ON CONFLICT (name) DO NOTHING RETURNING id, name",
+                namesParameter(unresolvedNames),
+                (RowCallbackHandler) row -> {
+                    if (transactionIds == null) {
+                        remember(row.getInt("id"), row.getString("name"));
+                    } else {
+                        transactionIds.put(row.getString("name"), row.getInt("id"));
+                    }
+                }
+        );
+        String[] storedNames = Arrays.stream(unresolvedNames)
+                .filter(name -> cachedId(name) == null)
+                .toArray(String[]::new);
+        if (storedNames.length > 0) {
+            jdbcTemplate.query(
+                    "SELECT id, name FROM " + table + " WHERE name = ANY(?)",
+                    namesParameter(storedNames),
+                    (RowCallbackHandler) row -> remember(row.getInt("id"), row.getString("name"))
+            );
+        }
+    }
+
+    /**
+     * Returns the id of a name resolved through {@link #resolve(Collection)}. Names that were not resolved up front
+     * are resolved one by one, which callers persisting many entities should avoid.
+     */
+    public int idOf(String name) {
+        Integer id = cachedId(name);
+        if (id == null) {
+            resolve(List.of(name));
+            id = cachedId(name);
+        }
+        if (id == null) {
+            throw new IllegalStateException("Could not resolve " + table + " - " + name);
+        }
+
+        return id;
+    }
+
+    public Optional<Integer> findId(String name) {
+        loadIfNeeded();
+        Integer id = cachedId(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        List<Integer> storedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE name = ?", Integer.class, name);
+
+        return storedIds.stream().findFirst();
+    }
+
+    public String nameOf(int id) {
+        loadIfNeeded();
+        String name = names.get(id);
+        if (name != null) {
+            return name;
+        }
+        remember(id, jdbcTemplate.queryForObject("SELECT name FROM " + table + " WHERE id = ?", String.class, id));
+
+        return names.get(id);
+    }
+
+    private Integer cachedId(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> transactionIds = (Map<String, Integer>) TransactionSynchronizationManager.getResource(this);
+
+        return transactionIds == null ? null : transactionIds.get(name);
+    }
+
+    /**
+     * Returns the ids inserted by the current transaction, which are cached for everyone once it commits, or
+     * {@code null} when there is no transaction to wait for.
+     */
+    private Map<String, Integer> transactionIds() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> transactionIds = (Map<String, Integer>) TransactionSynchronizationManager.getResource(this);
+        if (transactionIds != null) {
+            return transactionIds;
+        }
+        Map<String, Integer> insertedIds = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, insertedIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                insertedIds.forEach((name, id) -> remember(id, name));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NameDictionary.this);
+            }
+        });
+
+        return insertedIds;
+    }
+
+    private static PreparedStatementSetter namesParameter(String[] names) {
+        return statement -> statement.setArray(1, statement.getConnection().createArrayOf("text", names));
+    }
+
+    /**
+     * Loads the table once. The loader waits on a {@link ReentrantLock} instead of the monitor, so a virtual thread
+     * blocked on the query unmounts from its carrier.
+     */
+    private void loadIfNeeded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                jdbcTemplate.query("SELECT id, name FROM " + table,
+                        (RowCallbackHandler) row -> remember(row.getInt("id"), row.getString("name")));
+                loaded = true;
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void remember(int id, String name) {
+        String canonicalName = names.computeIfAbsent(id, key -> name);
+        ids.put(canonicalName, id);
+    }
+}
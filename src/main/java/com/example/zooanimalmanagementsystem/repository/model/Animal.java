@@ -1,24 +1,30 @@
 package com.example.zooanimalmanagementsystem.repository.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.UUID;
 
 @Entity
 @Table(name = "animal")
-public class Animal {
+public class Animal implements Persistable<UUID> {
 
     @Id
     private UUID id;
 
-    @Column(name = "species")
+    @Column(name = "species_id")
+    @Convert(converter = SpeciesConverter.class)
     private String species;
 
     @Column(name = "food")
-    private String food;
+    private Food food;
 
     @Column(name = "amount")
     private int amount;
@@ -26,36 +32,45 @@ public class Animal {
     @Column(name = "enclosure_id")
     private UUID enclosureId;
 
+    @Transient
+    private boolean newEntity = true;
+
     public Animal() {
     }
 
     public Animal(String species, int amount) {
-        id = UUID.randomUUID();
+        id = TimeOrderedUuid.generate();
         this.species = species;
         this.amount = amount;
     }
 
     public Animal(String species, String food, int amount) {
-        id = UUID.randomUUID();
+        id = TimeOrderedUuid.generate();
         this.species = species;
-        this.food = food;
+        this.food = Food.fromLabel(food).orElse(null);
         this.amount = amount;
     }
 
     public Animal(UUID id, String species, String food, int amount, UUID enclosureId) {
         this.id = id;
         this.species = species;
-        this.food = food;
+        this.food = Food.fromLabel(food).orElse(null);
         this.amount = amount;
         this.enclosureId = enclosureId;
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
     @Override
     public String toString() {
         return "Animal{" +
                "id=" + id +
                ", species='" + species + '\'' +
-               ", food='" + food + '\'' +
+               ", food=" + food +
                ", amount=" + amount +
                ", enclosureId=" + enclosureId +
                '}';
@@ -79,15 +94,21 @@ public class Animal {
         return id.hashCode();
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     public String getSpecies() {
         return species;
     }
 
-    public String getFood() {
+    public Food getFood() {
         return food;
     }
 
@@ -111,7 +132,7 @@ public class Animal {
         this.species = species;
     }
 
-    public void setFood(String food) {
+    public void setFood(Food food) {
         this.food = food;
     }
 
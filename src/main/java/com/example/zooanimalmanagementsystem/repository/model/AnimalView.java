@@ -0,0 +1,6 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import java.util.UUID;
+
+public record AnimalView(UUID id, String species, Food food, int amount, UUID enclosureId) {
+}
@@ -3,15 +3,21 @@ package com.example.zooanimalmanagementsystem.repository.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "enclosure")
-public class Enclosure {
+public class Enclosure implements Persistable<UUID> {
+
+    public static final int LARGEST_CAPACITY = capacityOf("Huge");
 
     @Id
     private UUID id;
@@ -25,14 +31,21 @@ public class Enclosure {
     @Column(name = "location")
     private String location;
 
-    @Column(name = "objects")
+    @Column(name = "object_ids", columnDefinition = "integer[]")
+    @Type(EnclosureObjectsType.class)
     private List<String> objects;
 
     @Column(name = "free_space")
     private int freeSpace;
 
-    @Column(name = "animals")
-    private List<String> animals;
+    @Column(name = "carnivore_groups")
+    private int carnivoreGroups;
+
+    @Column(name = "herbivore_groups")
+    private int herbivoreGroups;
+
+    @Transient
+    private boolean newEntity = true;
 
     public Enclosure() {
     }
@@ -46,24 +59,38 @@ public class Enclosure {
     }
 
     public Enclosure(String name, String size, String location, List<String> objects) {
-        id = UUID.randomUUID();
+        id = TimeOrderedUuid.generate();
         this.name = name;
         this.size = size;
         this.location = location;
         this.objects = objects;
-        freeSpace = evaluateEnclosureCapacity(size);
-        animals = new ArrayList<>();
-        animals.add("Empty");
-    }
-
-    public Enclosure(UUID id, String name, String size, String location, List<String> objects, int freeSpace, List<String> animals) {
+        freeSpace = capacityOf(size);
+    }
+
+    public Enclosure(
+            UUID id,
+            String name,
+            String size,
+            String location,
+            List<String> objects,
+            int freeSpace,
+            int carnivoreGroups,
+            int herbivoreGroups
+    ) {
         this.id = id;
         this.name = name;
         this.size = size;
         this.location = location;
         this.objects = objects;
         this.freeSpace = freeSpace;
-        this.animals = animals;
+        this.carnivoreGroups = carnivoreGroups;
+        this.herbivoreGroups = herbivoreGroups;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
     }
 
     @Override
@@ -75,7 +102,8 @@ public class Enclosure {
                ", location='" + location + '\'' +
                ", objects=" + objects +
                ", freeSpace=" + freeSpace +
-               ", animals=" + animals +
+               ", carnivoreGroups=" + carnivoreGroups +
+               ", herbivoreGroups=" + herbivoreGroups +
                '}';
     }
 
@@ -97,10 +125,16 @@ public class Enclosure {
         return id.hashCode();
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     public String getName() {
         return name;
     }
@@ -117,12 +151,20 @@ public class Enclosure {
         return objects;
     }
 
+    public int getCapacity() {
+        return capacityOf(size);
+    }
+
     public int getFreeSpace() {
         return freeSpace;
     }
 
-    public List<String> getAnimals() {
-        return animals;
+    public int getCarnivoreGroups() {
+        return carnivoreGroups;
+    }
+
+    public int getHerbivoreGroups() {
+        return herbivoreGroups;
     }
 
     public void setId(UUID id) {
@@ -133,21 +175,27 @@ public class Enclosure {
         this.freeSpace = freeSpace;
     }
 
-    public void setAnimals(String animal) {
-        if (animals.contains("Empty")) {
-            animals.clear();
+    public void addAnimals(Food food) {
+        if (food == Food.CARNIVORE) {
+            carnivoreGroups++;
+        } else {
+            herbivoreGroups++;
         }
-        animals.add(animal);
     }
 
-    public void removeAnimals(String animal) {
-        animals.remove(animal);
-        if (animals.isEmpty()) {
-            animals.add("Empty");
+    public void removeAnimals(Food food) {
+        if (food == Food.CARNIVORE) {
+            carnivoreGroups = Math.max(carnivoreGroups - 1, 0);
+        } else {
+            herbivoreGroups = Math.max(herbivoreGroups - 1, 0);
         }
     }
 
-    private int evaluateEnclosureCapacity(String size) {
+    public static int capacityOf(String size) {
+        if (size == null) {
+            return 0;
+        }
+
         return switch (size) {
             case "Small" -> 3;
             case "Medium" -> 7;
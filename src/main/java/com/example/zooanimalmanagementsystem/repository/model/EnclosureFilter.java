@@ -0,0 +1,10 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import java.util.List;
+
+public record EnclosureFilter(String location, String size, Integer minFreeSpace, List<String> objects) {
+
+    public EnclosureFilter {
+        objects = objects == null ? List.of() : List.copyOf(objects);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import com.example.zooanimalmanagementsystem.repository.NameDictionaries;
+import com.example.zooanimalmanagementsystem.repository.NameDictionary;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stores enclosure object names as an array of ids of the {@code enclosure_object} lookup table.
+ */
+public class EnclosureObjectsType implements UserType<List<String>> {
+
+    private final NameDictionary dictionary;
+
+    public EnclosureObjectsType(NameDictionaries dictionaries) {
+        dictionary = dictionaries.enclosureObjects();
+    }
+
+    @Override
+    public int getSqlType() {
+        return SqlTypes.ARRAY;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<List<String>> returnedClass() {
+        return (Class<List<String>>) (Class<?>) List.class;
+    }
+
+    @Override
+    public boolean equals(List<String> x, List<String> y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(List<String> x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public List<String> nullSafeGet(
+            ResultSet rs, int position, SharedSessionContractImplementor session, Object owner
+    ) throws SQLException {
+        Array array = rs.getArray(position);
+        if (array == null) {
+            return null;
+        }
+
+        return Arrays.stream((Integer[]) array.getArray())
+                .map(dictionary::nameOf)
+                .toList();
+    }
+
+    @Override
+    public void nullSafeSet(
+            PreparedStatement st, List<String> value, int index, SharedSessionContractImplementor session
+    ) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.ARRAY);
+            return;
+        }
+        Integer[] ids = value.stream()
+                .map(dictionary::idOf)
+                .toArray(Integer[]::new);
+        st.setArray(index, st.getConnection().createArrayOf("integer", ids));
+    }
+
+    @Override
+    public List<String> deepCopy(List<String> value) {
+        return value == null ? null : List.copyOf(value);
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true;
+    }
+
+    @Override
+    public Serializable disassemble(List<String> value) {
+        return value == null ? null : value.toArray(String[]::new);
+    }
+
+    @Override
+    public List<String> assemble(Serializable cached, Object owner) {
+        return cached == null ? null : List.of((String[]) cached);
+    }
+}
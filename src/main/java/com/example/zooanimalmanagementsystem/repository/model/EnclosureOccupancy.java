@@ -0,0 +1,6 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import java.util.UUID;
+
+public record EnclosureOccupancy(UUID id, String size, int freeSpace, int carnivoreGroups, int herbivoreGroups) {
+}
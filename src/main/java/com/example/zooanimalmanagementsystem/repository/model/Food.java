@@ -0,0 +1,44 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import java.util.Optional;
+
+public enum Food {
+    CARNIVORE((short) 1, "Carnivore"),
+    HERBIVORE((short) 2, "Herbivore");
+
+    private final short code;
+    private final String label;
+
+    Food(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public static Optional<Food> fromLabel(String label) {
+        for (Food food : values()) {
+            if (food.label.equalsIgnoreCase(label)) {
+                return Optional.of(food);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public static Food fromCode(short code) {
+        for (Food food : values()) {
+            if (food.code == code) {
+                return food;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown food code - " + code);
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
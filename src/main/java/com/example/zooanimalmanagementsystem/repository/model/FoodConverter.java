@@ -0,0 +1,18 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class FoodConverter implements AttributeConverter<Food, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Food food) {
+        return food == null ? null : food.getCode();
+    }
+
+    @Override
+    public Food convertToEntityAttribute(Short code) {
+        return code == null ? null : Food.fromCode(code);
+    }
+}
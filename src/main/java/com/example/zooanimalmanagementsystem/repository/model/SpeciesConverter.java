@@ -0,0 +1,26 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import com.example.zooanimalmanagementsystem.repository.NameDictionaries;
+import com.example.zooanimalmanagementsystem.repository.NameDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class SpeciesConverter implements AttributeConverter<String, Integer> {
+
+    private final NameDictionary dictionary;
+
+    public SpeciesConverter(NameDictionaries dictionaries) {
+        dictionary = dictionaries.species();
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String species) {
+        return species == null ? null : dictionary.idOf(species);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : dictionary.nameOf(id);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates version 7 UUIDs: a 48-bit millisecond timestamp followed by random bits. Ids generated by this
+ * process increase monotonically, so new rows are appended to the right edge of the primary key index.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static long lastTimestamp;
+    private static int sequence;
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID generate() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long mostSigBits = timestampAndSequence >>> SEQUENCE_BITS << 16
+                           | 0x7000L
+                           | timestampAndSequence & MAX_SEQUENCE;
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static synchronized long nextTimestampAndSequence() {
+        long timestamp = System.currentTimeMillis();
+        if (timestamp > lastTimestamp) {
+            lastTimestamp = timestamp;
+            sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+        } else if (sequence < MAX_SEQUENCE) {
+            sequence++;
+        } else {
+            lastTimestamp++;
+            sequence = 0;
+        }
+
+        return lastTimestamp << SEQUENCE_BITS | sequence;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.model.PlacementReport;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plans placement of a whole import in memory against copies of the enclosures, so strategies can be compared
+ * before anything is written. Each animal goes to the enclosure with the smallest sufficient free space.
+ */
+class AnimalPlacementPlanner {
+
+    private static final Comparator<Animal> DECREASING = Comparator
+            .comparing((Animal animal) -> animal.getFood() != Food.CARNIVORE)
+            .thenComparing(Comparator.comparingInt(Animal::getAmount).reversed());
+
+    PlacementPlan plan(List<Animal> animals, Collection<Enclosure> enclosures, PlacementStrategy strategy) {
+        long start = System.nanoTime();
+        Map<UUID, Enclosure> bins = new LinkedHashMap<>();
+        long freeSpace = 0;
+        for (Enclosure enclosure : enclosures) {
+            bins.put(enclosure.getId(), copyOf(enclosure));
+            freeSpace += enclosure.getFreeSpace();
+        }
+        EnclosurePlacementIndex index = new EnclosurePlacementIndex();
+        index.load(bins.values());
+
+        UUID[] assignments = new UUID[animals.size()];
+        int placed = 0;
+        long placedAmount = 0;
+        for (int i : placementOrder(animals, strategy)) {
+            Animal animal = animals.get(i);
+            Optional<UUID> candidate = index.findCandidate(animal.getFood(), animal.getAmount(), Set.of());
+            if (candidate.isEmpty()) {
+                continue;
+            }
+            Enclosure bin = bins.get(candidate.get());
+            bin.setFreeSpace(bin.getFreeSpace() - animal.getAmount());
+            bin.addAnimals(animal.getFood());
+            index.put(bin);
+            assignments[i] = bin.getId();
+            placed++;
+            placedAmount += animal.getAmount();
+        }
+        PlacementReport report = new PlacementReport(
+                strategy,
+                placed,
+                animals.size() - placed,
+                freeSpace == 0 ? 0 : (double) placedAmount / freeSpace,
+                Duration.ofNanos(System.nanoTime() - start)
+        );
+
+        return new PlacementPlan(Arrays.asList(assignments), report);
+    }
+
+    private Integer[] placementOrder(List<Animal> animals, PlacementStrategy strategy) {
+        Integer[] order = new Integer[animals.size()];
+        Arrays.setAll(order, i -> i);
+        if (strategy == PlacementStrategy.BEST_FIT_DECREASING) {
+            Arrays.parallelSort(order, Comparator.comparing(animals::get, DECREASING));
+        }
+
+        return order;
+    }
+
+    private Enclosure copyOf(Enclosure enclosure) {
+        return new Enclosure(
+                enclosure.getId(),
+                enclosure.getName(),
+                enclosure.getSize(),
+                enclosure.getLocation(),
+                enclosure.getObjects(),
+                enclosure.getFreeSpace(),
+                enclosure.getCarnivoreGroups(),
+                enclosure.getHerbivoreGroups()
+        );
+    }
+
+    record PlacementPlan(List<UUID> enclosureIds, PlacementReport report) {
+
+        boolean isComplete() {
+            return report.unplaced() == 0;
+        }
+    }
+}
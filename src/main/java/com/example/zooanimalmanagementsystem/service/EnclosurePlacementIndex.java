@@ -0,0 +1,371 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureCapacity;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats.SizeClassStats;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Enclosures bucketed by free space, used to propose placement candidates without reading the whole table.
+ * Candidates are only hints - the caller verifies them against stored data.
+ * Occupancy totals are kept alongside the buckets, so statistics are read without touching the database.
+ * Changes made through an {@link UndoLog} can be reverted slot by slot when their transaction rolls back.
+ * State is guarded by a {@link ReentrantLock} rather than the monitor, so a virtual thread waiting for the database
+ * while holding it unmounts from its carrier.
+ */
+class EnclosurePlacementIndex {
+
+    private static final int MAX_OPTIMISTIC_LOADS = 3;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Slot> slots = new LinkedHashMap<>();
+    private final NavigableMap<Integer, Set<UUID>> enclosuresByFreeSpace = new TreeMap<>();
+    private final NavigableMap<Integer, Set<UUID>> carnivoreEnclosuresByFreeSpace = new TreeMap<>();
+    private final Map<String, SizeClass> sizeClasses = new HashMap<>();
+    private boolean loaded;
+    private long generation;
+    private int totalCapacity;
+    private int totalFreeSpace;
+    private int totalCarnivoreGroups;
+    private int totalHerbivoreGroups;
+
+    /**
+     * Loads the index unless it is already loaded. Enclosures are read without holding the lock, so every change
+     * bumps the generation and a read that overlapped a change is discarded. After a few such reads the index is
+     * loaded while holding the lock, making writers wait instead of losing their update.
+     */
+    void loadIfNeeded(Supplier<? extends Collection<Enclosure>> enclosures) {
+        for (int attempt = 0; attempt < MAX_OPTIMISTIC_LOADS; attempt++) {
+            long observedGeneration;
+            lock.lock();
+            try {
+                if (loaded) {
+                    return;
+                }
+                observedGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+            Collection<Enclosure> storedEnclosures = enclosures.get();
+            lock.lock();
+            try {
+                if (generation == observedGeneration) {
+                    load(storedEnclosures);
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        lock.lock();
+        try {
+            if (!loaded) {
+                load(enclosures.get());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isLoaded() {
+        lock.lock();
+        try {
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void load(Collection<Enclosure> enclosures) {
+        lock.lock();
+        try {
+            clear();
+            enclosures.forEach(this::put);
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidate() {
+        lock.lock();
+        try {
+            clear();
+            loaded = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(Enclosure enclosure) {
+        lock.lock();
+        try {
+            put(enclosure.getId(), new Slot(
+                    enclosure.getSize(),
+                    enclosure.getCapacity(),
+                    enclosure.getFreeSpace(),
+                    enclosure.getCarnivoreGroups(),
+                    enclosure.getHerbivoreGroups()
+            ));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(Enclosure enclosure, UndoLog undoLog) {
+        lock.lock();
+        try {
+            undoLog.record(enclosure.getId(), slots.get(enclosure.getId()));
+            put(enclosure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(UUID id) {
+        lock.lock();
+        try {
+            generation++;
+            Slot slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            totalCapacity -= slot.capacity();
+            totalFreeSpace -= slot.freeSpace();
+            totalCarnivoreGroups -= slot.carnivoreGroups();
+            totalHerbivoreGroups -= slot.herbivoreGroups();
+            SizeClass sizeClass = sizeClasses.get(slot.size());
+            sizeClass.add(slot, -1);
+            if (sizeClass.enclosures == 0) {
+                sizeClasses.remove(slot.size());
+            }
+            removeFromBucket(enclosuresByFreeSpace, slot.freeSpace(), id);
+            if (slot.acceptsCarnivores()) {
+                removeFromBucket(carnivoreEnclosuresByFreeSpace, slot.freeSpace(), id);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(UUID id, UndoLog undoLog) {
+        lock.lock();
+        try {
+            undoLog.record(id, slots.get(id));
+            remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Restores the slots recorded in the log. Skipped while the index is not loaded, as loading reads committed
+     * data anyway.
+     */
+    void undo(UndoLog undoLog) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            undoLog.previousSlots.forEach((id, slot) -> {
+                remove(id);
+                if (slot != null) {
+                    put(id, slot);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Optional<UUID> findCandidate(Food food, int amount, Set<UUID> excluded) {
+        lock.lock();
+        try {
+            NavigableMap<Integer, Set<UUID>> buckets = food == Food.CARNIVORE ?
+                    carnivoreEnclosuresByFreeSpace :
+                    enclosuresByFreeSpace;
+            for (Set<UUID> bucket : buckets.tailMap(amount, true).values()) {
+                for (UUID id : bucket) {
+                    if (!excluded.contains(id)) {
+                        return Optional.of(id);
+                    }
+                }
+            }
+
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the indexed enclosures in the order they were last put. Enclosures with equal free space keep that
+     * order within their bucket as well, so a planner loading them breaks ties like this index does.
+     */
+    List<Enclosure> snapshot() {
+        lock.lock();
+        try {
+            return slots.entrySet().stream()
+                    .map(entry -> new Enclosure(
+                            entry.getKey(),
+                            null,
+                            entry.getValue().size(),
+                            null,
+                            List.of(),
+                            entry.getValue().freeSpace(),
+                            entry.getValue().carnivoreGroups(),
+                            entry.getValue().herbivoreGroups()
+                    ))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    EnclosureCapacity capacity() {
+        lock.lock();
+        try {
+            return new EnclosureCapacity(totalCapacity, totalFreeSpace);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Totals as this instance sees them, including changes of transactions that have not committed yet.
+     */
+    EnclosureStats stats() {
+        lock.lock();
+        try {
+            List<SizeClassStats> sizeClassStats = sizeClasses.entrySet().stream()
+                    .sorted(Comparator.comparingInt(entry -> entry.getValue().enclosureCapacity))
+                    .map(entry -> entry.getValue().toStats(entry.getKey()))
+                    .toList();
+
+            return new EnclosureStats(
+                    slots.size(),
+                    totalCapacity,
+                    totalFreeSpace,
+                    totalCarnivoreGroups,
+                    totalHerbivoreGroups,
+                    sizeClassStats
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(UUID id, Slot slot) {
+        remove(id);
+        generation++;
+        slots.put(id, slot);
+        totalCapacity += slot.capacity();
+        totalFreeSpace += slot.freeSpace();
+        totalCarnivoreGroups += slot.carnivoreGroups();
+        totalHerbivoreGroups += slot.herbivoreGroups();
+        sizeClasses.computeIfAbsent(slot.size(), size -> new SizeClass(slot.capacity())).add(slot, 1);
+        addToBucket(enclosuresByFreeSpace, slot.freeSpace(), id);
+        if (slot.acceptsCarnivores()) {
+            addToBucket(carnivoreEnclosuresByFreeSpace, slot.freeSpace(), id);
+        }
+    }
+
+    private void clear() {
+        generation++;
+        slots.clear();
+        enclosuresByFreeSpace.clear();
+        carnivoreEnclosuresByFreeSpace.clear();
+        sizeClasses.clear();
+        totalCapacity = 0;
+        totalFreeSpace = 0;
+        totalCarnivoreGroups = 0;
+        totalHerbivoreGroups = 0;
+    }
+
+    private void addToBucket(NavigableMap<Integer, Set<UUID>> buckets, int freeSpace, UUID id) {
+        buckets.computeIfAbsent(freeSpace, key -> new LinkedHashSet<>()).add(id);
+    }
+
+    private void removeFromBucket(NavigableMap<Integer, Set<UUID>> buckets, int freeSpace, UUID id) {
+        Set<UUID> bucket = buckets.get(freeSpace);
+        bucket.remove(id);
+        if (bucket.isEmpty()) {
+            buckets.remove(freeSpace);
+        }
+    }
+
+    /**
+     * Slots as they were before one transaction first changed them; {@code null} for enclosures it added.
+     */
+    static class UndoLog {
+
+        static final UndoLog NONE = new UndoLog() {
+            @Override
+            void record(UUID id, Slot previousSlot) {
+            }
+        };
+
+        private final Map<UUID, Slot> previousSlots = new HashMap<>();
+
+        void record(UUID id, Slot previousSlot) {
+            if (!previousSlots.containsKey(id)) {
+                previousSlots.put(id, previousSlot);
+            }
+        }
+    }
+
+    private record Slot(String size, int capacity, int freeSpace, int carnivoreGroups, int herbivoreGroups) {
+
+        boolean acceptsCarnivores() {
+            return carnivoreGroups <= 1;
+        }
+    }
+
+    private static class SizeClass {
+
+        private final int enclosureCapacity;
+        private int enclosures;
+        private int capacity;
+        private int freeSpace;
+
+        SizeClass(int enclosureCapacity) {
+            this.enclosureCapacity = enclosureCapacity;
+        }
+
+        void add(Slot slot, int sign) {
+            enclosures += sign;
+            capacity += sign * slot.capacity();
+            freeSpace += sign * slot.freeSpace();
+        }
+
+        SizeClassStats toStats(String size) {
+            return new SizeClassStats(size, enclosures, capacity, freeSpace);
+        }
+    }
+}
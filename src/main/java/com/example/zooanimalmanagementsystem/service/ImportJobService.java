@@ -0,0 +1,132 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobRejectedException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
+import com.example.zooanimalmanagementsystem.service.exception.InputFileNotAvailableException;
+import com.example.zooanimalmanagementsystem.service.exception.ReadingFromFileFailedException;
+import com.example.zooanimalmanagementsystem.service.model.ImportJob;
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import com.example.zooanimalmanagementsystem.service.model.LoadMethod;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import com.example.zooanimalmanagementsystem.service.model.SpooledMultipartFile;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
+
+@Service
+@Timed(value = "zoo.service", histogram = true)
+public class ImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportJobService.class);
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final ZooService zooService;
+    private final TaskExecutor importExecutor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ZooService zooService, @Qualifier("importExecutor") TaskExecutor importExecutor) {
+        this.zooService = zooService;
+        this.importExecutor = importExecutor;
+    }
+
+    public ImportJob submitAnimalsImport(MultipartFile file, PlacementStrategy strategy, LoadMethod load) {
+        return submit("animals", file, (spooledFile, progressListener) ->
+                zooService.storeAnimals(spooledFile, progressListener, strategy, load));
+    }
+
+    public ImportJob submitEnclosuresImport(MultipartFile file, LoadMethod load) {
+        return submit("enclosures", file, (spooledFile, progressListener) ->
+                zooService.storeEnclosures(spooledFile, progressListener, load));
+    }
+
+    public ImportJob findJobById(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Could not find import job with id - " + id);
+        }
+
+        return job;
+    }
+
+    /**
+     * Spools the upload so the job can read it after the request ends. An upload that is already a
+     * {@link SpooledMultipartFile} is taken over as it is and deleted once the job no longer needs it.
+     */
+    private ImportJob submit(
+            String dataType, MultipartFile file, BiFunction<MultipartFile, IntConsumer, ImportReport> importer
+    ) {
+        if (file == null || file.isEmpty()) {
+            if (file instanceof SpooledMultipartFile spooledUpload) {
+                deleteSpooledFile(spooledUpload);
+            }
+            throw new InputFileNotAvailableException("Can`t read data. File is either not uploaded or empty.");
+        }
+        removeExpiredJobs();
+        SpooledMultipartFile spooledFile = file instanceof SpooledMultipartFile spooledUpload ? spooledUpload : spool(file);
+        ImportJob job = new ImportJob(UUID.randomUUID(), dataType, file.getOriginalFilename());
+        jobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> run(job, spooledFile, importer));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            deleteSpooledFile(spooledFile);
+            throw new ImportJobRejectedException("Import queue is full. Please try again later.");
+        }
+
+        return job;
+    }
+
+    private void run(
+            ImportJob job, SpooledMultipartFile file, BiFunction<MultipartFile, IntConsumer, ImportReport> importer
+    ) {
+        job.start();
+        try {
+            importer.apply(file, job::recordsProcessed);
+            job.complete();
+        } catch (ImportValidationException e) {
+            log.info("Import job {} rejected: {} errors in {} records", job.getId(), e.getErrorCount(), e.getRecordCount());
+            job.fail(e.getMessage(), e.getRecordCount());
+        } catch (RuntimeException e) {
+            log.warn("Import job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteSpooledFile(file);
+        }
+    }
+
+    private SpooledMultipartFile spool(MultipartFile file) {
+        try {
+            return SpooledMultipartFile.spool(file);
+        } catch (IOException e) {
+            throw new ReadingFromFileFailedException("Can`t read data from file. Upload could not be stored for import.");
+        }
+    }
+
+    private void deleteSpooledFile(SpooledMultipartFile file) {
+        try {
+            file.delete();
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload {}", file.getPath(), e);
+        }
+    }
+
+    private void removeExpiredJobs() {
+        Instant expiration = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiration));
+    }
+}
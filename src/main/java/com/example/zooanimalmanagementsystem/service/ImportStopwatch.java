@@ -0,0 +1,50 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Splits time spent on a streamed import into phases. Parsing is whatever is left after placement and persistence,
+ * as records are read between chunk callbacks.
+ */
+class ImportStopwatch {
+
+    private final long start = System.nanoTime();
+    private long placementNanos;
+    private long persistenceNanos;
+    private int records;
+
+    <T> T timePlacement(Supplier<T> placement) {
+        long placementStart = System.nanoTime();
+        try {
+            return placement.get();
+        } finally {
+            placementNanos += System.nanoTime() - placementStart;
+        }
+    }
+
+    void timePersistence(Runnable persistence) {
+        long persistenceStart = System.nanoTime();
+        try {
+            persistence.run();
+        } finally {
+            persistenceNanos += System.nanoTime() - persistenceStart;
+        }
+    }
+
+    void recordsProcessed(int count) {
+        records += count;
+    }
+
+    ImportReport stop() {
+        long total = System.nanoTime() - start;
+        return new ImportReport(
+                records,
+                Duration.ofNanos(total - placementNanos - persistenceNanos),
+                Duration.ofNanos(placementNanos),
+                Duration.ofNanos(persistenceNanos)
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
+import com.example.zooanimalmanagementsystem.service.model.AnimalDetails;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureDetails;
+import com.example.zooanimalmanagementsystem.service.model.ImportValidationError;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Checks parsed import records before anything is stored, so a bad file is rejected with all of its errors at once.
+ * Field rules of a chunk run in parallel on the common fork-join pool; duplicate species are tracked across chunks.
+ */
+class ImportValidator<T> {
+
+    private static final int MAX_KEPT_ERRORS = 1000;
+    private static final int SPECIES_MAX_LENGTH = 50;
+    private static final int ENCLOSURE_TEXT_MAX_LENGTH = 20;
+
+    private final BiConsumer<T, List<String>> rules;
+    private final Function<T, String> uniqueKey;
+    private final Map<String, Integer> firstIndexByKey = new HashMap<>();
+    private final List<ImportValidationError> errors = new ArrayList<>();
+    private int errorCount;
+    private int records;
+
+    private ImportValidator(BiConsumer<T, List<String>> rules, Function<T, String> uniqueKey) {
+        this.rules = rules;
+        this.uniqueKey = uniqueKey;
+    }
+
+    static ImportValidator<AnimalDetails> forAnimals() {
+        return new ImportValidator<>(ImportValidator::checkAnimal, AnimalDetails::species);
+    }
+
+    static ImportValidator<EnclosureDetails> forEnclosures() {
+        return new ImportValidator<>(ImportValidator::checkEnclosure, enclosure -> null);
+    }
+
+    void validate(List<T> chunk) {
+        int offset = records;
+        List<ImportValidationError> chunkErrors = new ArrayList<>(IntStream.range(0, chunk.size())
+                .parallel()
+                .boxed()
+                .flatMap(i -> check(chunk.get(i)).stream().map(message -> new ImportValidationError(offset + i, message)))
+                .toList());
+        for (int i = 0; i < chunk.size(); i++) {
+            String key = uniqueKey.apply(chunk.get(i));
+            if (key == null || key.isBlank()) {
+                continue;
+            }
+            Integer firstIndex = firstIndexByKey.putIfAbsent(key.strip(), offset + i);
+            if (firstIndex != null) {
+                chunkErrors.add(new ImportValidationError(
+                        offset + i, "Duplicate species '" + key + "', first seen in record " + firstIndex + "."));
+            }
+        }
+        chunkErrors.sort(Comparator.comparingInt(ImportValidationError::index));
+        errorCount += chunkErrors.size();
+        errors.addAll(chunkErrors.subList(0, Math.min(chunkErrors.size(), MAX_KEPT_ERRORS - errors.size())));
+        records += chunk.size();
+    }
+
+    int records() {
+        return records;
+    }
+
+    void complete() {
+        if (errorCount > 0) {
+            throw new ImportValidationException(errors, errorCount, records);
+        }
+    }
+
+    private List<String> check(T record) {
+        List<String> messages = new ArrayList<>(1);
+        rules.accept(record, messages);
+
+        return messages;
+    }
+
+    private static void checkAnimal(AnimalDetails animal, List<String> messages) {
+        if (animal.species() == null || animal.species().isBlank()) {
+            messages.add("Species is required.");
+        } else if (animal.species().length() > SPECIES_MAX_LENGTH) {
+            messages.add("Species should not be longer than " + SPECIES_MAX_LENGTH + " characters.");
+        }
+        if (Food.fromLabel(animal.food()).isEmpty()) {
+            messages.add("Please specify correct animal food. Usage 'Carnivore' or 'Herbivore'.");
+        }
+        if (animal.amount() < 1) {
+            messages.add("Animal amount should not be less than 1.");
+        } else if (animal.amount() > Enclosure.LARGEST_CAPACITY) {
+            messages.add("Animal amount should not be greater than " + Enclosure.LARGEST_CAPACITY + ", the capacity of the largest enclosure.");
+        }
+    }
+
+    private static void checkEnclosure(EnclosureDetails enclosure, List<String> messages) {
+        checkEnclosureText("name", enclosure.name(), messages);
+        checkEnclosureText("location", enclosure.location(), messages);
+        if (Enclosure.capacityOf(enclosure.size()) == 0) {
+            messages.add("Unknown enclosure size '" + enclosure.size() + "'. Usage 'Small', 'Medium', 'Large' or 'Huge'.");
+        }
+    }
+
+    private static void checkEnclosureText(String field, String value, List<String> messages) {
+        if (value == null || value.isBlank()) {
+            messages.add("Enclosure " + field + " is required.");
+        } else if (value.length() > ENCLOSURE_TEXT_MAX_LENGTH) {
+            messages.add("Enclosure " + field + " should not be longer than " + ENCLOSURE_TEXT_MAX_LENGTH + " characters.");
+        }
+    }
+}
@@ -2,27 +2,67 @@ package com.example.zooanimalmanagementsystem.service;
 
 import com.example.zooanimalmanagementsystem.service.exception.InputFileNotAvailableException;
 import com.example.zooanimalmanagementsystem.service.exception.ReadingFromFileFailedException;
+import com.example.zooanimalmanagementsystem.service.model.AnimalDetails;
 import com.example.zooanimalmanagementsystem.service.model.AnimalsList;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureDetails;
 import com.example.zooanimalmanagementsystem.service.model.EnclosuresList;
+import com.example.zooanimalmanagementsystem.service.model.InputFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Service
+@Timed(value = "zoo.service", histogram = true)
 public class InputReadingService {
 
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema()
+            .withHeader()
+            .withArrayElementSeparator("|");
+
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
 
     public EnclosuresList retrieveEnclosuresData(MultipartFile file) {
-        checkIfFileIsAvailable(file);
-        return readEnclosuresFile(file);
+        List<EnclosureDetails> enclosures = new ArrayList<>();
+        retrieveEnclosuresData(file, Integer.MAX_VALUE, enclosures::addAll);
+        return new EnclosuresList(enclosures);
     }
 
     public AnimalsList retrieveAnimalsData(MultipartFile file) {
+        List<AnimalDetails> animals = new ArrayList<>();
+        retrieveAnimalsData(file, Integer.MAX_VALUE, animals::addAll);
+        return new AnimalsList(animals);
+    }
+
+    public void retrieveEnclosuresData(MultipartFile file, int chunkSize, Consumer<List<EnclosureDetails>> consumer) {
+        checkIfFileIsAvailable(file);
+        readFileInChunks(file, "enclosures", EnclosureDetails.class, chunkSize, consumer);
+    }
+
+    public void retrieveAnimalsData(MultipartFile file, int chunkSize, Consumer<List<AnimalDetails>> consumer) {
         checkIfFileIsAvailable(file);
-        return readAnimalsFile(file);
+        readFileInChunks(file, "animals", AnimalDetails.class, chunkSize, consumer);
     }
 
     private void checkIfFileIsAvailable(MultipartFile file) {
@@ -31,19 +71,118 @@ public class InputReadingService {
         }
     }
 
-    private EnclosuresList readEnclosuresFile(MultipartFile file) {
-        try {
-            return objectMapper.readValue(file.getBytes(), EnclosuresList.class);
+    private <T> void readFileInChunks(
+            MultipartFile file, String arrayName, Class<T> recordType, int chunkSize, Consumer<List<T>> consumer
+    ) {
+        switch (InputFormat.of(file)) {
+            case NDJSON -> readNdjsonInChunks(file, recordType, chunkSize, consumer);
+            case CSV -> readCsvInChunks(file, recordType, chunkSize, consumer);
+            default -> readJsonInChunks(file, arrayName, recordType, chunkSize, consumer);
+        }
+    }
+
+    private <T> void readJsonInChunks(
+            MultipartFile file, String arrayName, Class<T> recordType, int chunkSize, Consumer<List<T>> consumer
+    ) {
+        try (InputStream inputStream = file.getInputStream();
+             JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw incorrectFormat();
+            }
+            boolean arrayFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (fieldName.equals(arrayName) && value == JsonToken.START_ARRAY) {
+                    readArrayInChunks(parser, recordType, chunkSize, consumer);
+                    arrayFound = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!arrayFound) {
+                throw incorrectFormat();
+            }
         } catch (IOException e) {
-            throw new ReadingFromFileFailedException("Can`t read data from file. Make sure file has correct format");
+            throw incorrectFormat();
         }
     }
 
-    private AnimalsList readAnimalsFile(MultipartFile file) {
-        try {
-            return objectMapper.readValue(file.getBytes(), AnimalsList.class);
+    private <T> void readArrayInChunks(
+            JsonParser parser, Class<T> recordType, int chunkSize, Consumer<List<T>> consumer
+    ) throws IOException {
+        List<T> chunk = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            chunk.add(objectMapper.readValue(parser, recordType));
+            if (chunk.size() == chunkSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            throw incorrectFormat();
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+
+    private <T> void readNdjsonInChunks(MultipartFile file, Class<T> recordType, int chunkSize, Consumer<List<T>> consumer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+                if (lines.size() == chunkSize) {
+                    consumer.accept(parseNdjsonLines(lines, recordType));
+                    lines = new ArrayList<>();
+                }
+            }
+            if (!lines.isEmpty()) {
+                consumer.accept(parseNdjsonLines(lines, recordType));
+            }
         } catch (IOException e) {
-            throw new ReadingFromFileFailedException("Can`t read data from file. Make sure file has correct format");
+            throw incorrectFormat();
+        }
+    }
+
+    private <T> List<T> parseNdjsonLines(List<String> lines, Class<T> recordType) {
+        return lines.parallelStream()
+                .map(line -> parseNdjsonLine(line, recordType))
+                .toList();
+    }
+
+    private <T> T parseNdjsonLine(String line, Class<T> recordType) {
+        try {
+            return objectMapper.readValue(line, recordType);
+        } catch (JsonProcessingException e) {
+            throw incorrectFormat();
         }
     }
+
+    private <T> void readCsvInChunks(MultipartFile file, Class<T> recordType, int chunkSize, Consumer<List<T>> consumer) {
+        ObjectReader reader = csvMapper.readerFor(recordType).with(CSV_SCHEMA);
+        try (InputStream inputStream = file.getInputStream();
+             MappingIterator<T> records = reader.readValues(inputStream)) {
+            List<T> chunk = new ArrayList<>();
+            while (records.hasNextValue()) {
+                chunk.add(records.nextValue());
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        } catch (IOException | RuntimeJsonMappingException e) {
+            throw incorrectFormat();
+        }
+    }
+
+    private ReadingFromFileFailedException incorrectFormat() {
+        return new ReadingFromFileFailedException("Can`t read data from file. Make sure file has correct format");
+    }
 }
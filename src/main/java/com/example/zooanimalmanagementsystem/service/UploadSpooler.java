@@ -0,0 +1,91 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.exception.ReadingFromFileFailedException;
+import com.example.zooanimalmanagementsystem.service.exception.UploadTooLargeException;
+import com.example.zooanimalmanagementsystem.service.model.SpooledMultipartFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+
+/**
+ * Streams a raw request body to a temporary file, so parsing never needs the whole upload on the heap.
+ */
+@Service
+public class UploadSpooler {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSpooler.class);
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    private final long maxSize;
+
+    public UploadSpooler(@Value("${zoo.upload.max-size:4GB}") DataSize maxSize) {
+        this.maxSize = maxSize.toBytes();
+    }
+
+    public <T> T withSpooledUpload(
+            InputStream body, String fileName, String contentType, Function<MultipartFile, T> action
+    ) {
+        SpooledMultipartFile file = spool(body, fileName, contentType);
+        try {
+            return action.apply(file);
+        } finally {
+            deleteQuietly(file.getPath());
+        }
+    }
+
+    /**
+     * Spools the body for a caller that keeps the file beyond the request, such as an import job. The caller owns
+     * the returned file and deletes it.
+     */
+    public SpooledMultipartFile spool(InputStream body, String fileName, String contentType) {
+        Path path = createTempFile();
+        try (ReadableByteChannel source = Channels.newChannel(body);
+             FileChannel target = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long size = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK_SIZE)) > 0) {
+                size += transferred;
+                if (size > maxSize) {
+                    throw new UploadTooLargeException("Upload exceeds the maximum size of " + maxSize + " bytes.");
+                }
+            }
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new ReadingFromFileFailedException("Can`t read data from file. Upload could not be stored for import.");
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+
+        return new SpooledMultipartFile("file", fileName, contentType, path);
+    }
+
+    private Path createTempFile() {
+        try {
+            return Files.createTempFile("zoo-upload-", ".tmp");
+        } catch (IOException e) {
+            throw new ReadingFromFileFailedException("Can`t read data from file. Upload could not be stored for import.");
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload {}", path, e);
+        }
+    }
+}
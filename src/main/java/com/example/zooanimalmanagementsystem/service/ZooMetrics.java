@@ -0,0 +1,79 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import com.example.zooanimalmanagementsystem.service.model.PlacementReport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ZooMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public ZooMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void placementsSucceeded(int count) {
+        placements("success").increment(count);
+    }
+
+    public void noSuitableEnclosureFound() {
+        placements("no_suitable_enclosure").increment();
+    }
+
+    public void notEnoughFreeSpace() {
+        placements("not_enough_free_space").increment();
+    }
+
+    public void importCompleted(String data, ImportReport report) {
+        Counter.builder("zoo.import.records")
+                .tag("data", data)
+                .register(meterRegistry)
+                .increment(report.records());
+        importPhase(data, "parsing").record(report.parsing());
+        importPhase(data, "placement").record(report.placement());
+        importPhase(data, "persistence").record(report.persistence());
+        if (!report.elapsed().isZero()) {
+            DistributionSummary.builder("zoo.import.throughput")
+                    .baseUnit("records/s")
+                    .tag("data", data)
+                    .register(meterRegistry)
+                    .record(report.recordsPerSecond());
+        }
+    }
+
+    public void importRejected(String data, int invalidRecords) {
+        Counter.builder("zoo.import.invalid.records")
+                .tag("data", data)
+                .register(meterRegistry)
+                .increment(invalidRecords);
+    }
+
+    public void placementPlanned(PlacementReport report) {
+        Timer.builder("zoo.placement.plan")
+                .tag("strategy", report.strategy().name())
+                .register(meterRegistry)
+                .record(report.elapsed());
+        DistributionSummary.builder("zoo.placement.utilisation")
+                .tag("strategy", report.strategy().name())
+                .register(meterRegistry)
+                .record(report.utilisation());
+    }
+
+    private Counter placements(String outcome) {
+        return Counter.builder("zoo.placements")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Timer importPhase(String data, String phase) {
+        return Timer.builder("zoo.import.phase")
+                .tag("data", data)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
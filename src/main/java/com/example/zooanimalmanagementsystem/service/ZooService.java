@@ -1,43 +1,162 @@
 package com.example.zooanimalmanagementsystem.service;
 
 import com.example.zooanimalmanagementsystem.repository.AnimalRepository;
+import com.example.zooanimalmanagementsystem.repository.BulkLoad;
+import com.example.zooanimalmanagementsystem.repository.BulkLoadRepository;
 import com.example.zooanimalmanagementsystem.repository.EnclosureRepository;
+import com.example.zooanimalmanagementsystem.repository.NameDictionaries;
 import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
 import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.AnimalPlacementPlanner.PlacementPlan;
+import com.example.zooanimalmanagementsystem.service.EnclosurePlacementIndex.UndoLog;
 import com.example.zooanimalmanagementsystem.service.exception.AnimalNotFoundException;
 import com.example.zooanimalmanagementsystem.service.exception.DataAlreadyStoredException;
 import com.example.zooanimalmanagementsystem.service.exception.EnclosureNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
 import com.example.zooanimalmanagementsystem.service.exception.IncorrectAnimalTypeException;
 import com.example.zooanimalmanagementsystem.service.exception.NotEnoughFreeSpaceInEnclosure;
+import com.example.zooanimalmanagementsystem.service.model.AnimalDetails;
 import com.example.zooanimalmanagementsystem.service.model.AnimalsList;
+import com.example.zooanimalmanagementsystem.service.model.BatchItemResult;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureCapacity;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureDetails;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats;
 import com.example.zooanimalmanagementsystem.service.model.EnclosuresList;
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import com.example.zooanimalmanagementsystem.service.model.LoadMethod;
+import com.example.zooanimalmanagementsystem.service.model.PlacementSimulation;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.zooanimalmanagementsystem.config.CacheConfiguration.ANIMALS_CACHE;
 
 @Service
+@Timed(value = "zoo.service", histogram = true)
 public class ZooService {
 
+    private static final Logger log = LoggerFactory.getLogger(ZooService.class);
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
     private final EnclosureRepository enclosureRepository;
     private final AnimalRepository animalRepository;
+    private final BulkLoadRepository bulkLoadRepository;
+    private final NameDictionaries nameDictionaries;
     private final InputReadingService inputReadingService;
+    private final EntityManager entityManager;
+    private final ZooMetrics zooMetrics;
+    private final EnclosurePlacementIndex placementIndex = new EnclosurePlacementIndex();
+    private final AnimalPlacementPlanner placementPlanner = new AnimalPlacementPlanner();
 
     public ZooService(
             EnclosureRepository enclosureRepository,
             AnimalRepository animalRepository,
-            InputReadingService inputReadingService
+            BulkLoadRepository bulkLoadRepository,
+            NameDictionaries nameDictionaries,
+            InputReadingService inputReadingService,
+            EntityManager entityManager,
+            ZooMetrics zooMetrics
     ) {
         this.enclosureRepository = enclosureRepository;
         this.animalRepository = animalRepository;
+        this.bulkLoadRepository = bulkLoadRepository;
+        this.nameDictionaries = nameDictionaries;
         this.inputReadingService = inputReadingService;
+        this.entityManager = entityManager;
+        this.zooMetrics = zooMetrics;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<AnimalView> findAnimals(UUID after, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by("id"));
+        return after == null ?
+                animalRepository.findViews(pageable) :
+                animalRepository.findViewsByIdGreaterThan(after, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachAnimal(Consumer<AnimalView> action) {
+        try (Stream<AnimalView> animals = animalRepository.streamViews()) {
+            animals.forEach(action);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Enclosure> findEnclosures(EnclosureFilter filter, UUID after, int limit) {
+        return enclosureRepository.findByFilter(filter, after, limit);
     }
 
-    public List<Animal> findAllAnimals() {
-        return animalRepository.findAll();
+    public EnclosureCapacity getEnclosureCapacity() {
+        loadPlacementIndex();
+        return placementIndex.capacity();
+    }
+
+    public EnclosureStats getEnclosureStats() {
+        loadPlacementIndex();
+        return placementIndex.stats();
+    }
+
+    public PlacementSimulation simulatePlacement(List<Animal> animals, PlacementStrategy strategy) {
+        animals.forEach(animal -> validateFood(animal.getFood()));
+        loadPlacementIndex();
+        List<Enclosure> enclosures = placementIndex.snapshot();
+        PlacementPlan plan = placementPlanner.plan(animals, enclosures, strategy);
+        int capacity = 0;
+        int freeSpace = 0;
+        for (Enclosure enclosure : enclosures) {
+            capacity += enclosure.getCapacity();
+            freeSpace += enclosure.getFreeSpace();
+        }
+        for (int i = 0; i < animals.size(); i++) {
+            if (plan.enclosureIds().get(i) != null) {
+                freeSpace -= animals.get(i).getAmount();
+            }
+        }
+        log.info("Simulated placement of {} animals. {}", animals.size(), plan.report());
+
+        return new PlacementSimulation(plan.enclosureIds(), plan.report(), capacity, freeSpace);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ANIMALS_CACHE)
+    public AnimalView findAnimalViewById(UUID id) {
+        Optional<AnimalView> animal = animalRepository.findViewById(id);
+        return animal.orElseThrow(() -> new AnimalNotFoundException("Could not find animal with id - " + id));
     }
 
     public Animal findAnimalById(UUID id) {
@@ -45,91 +164,698 @@ public class ZooService {
         return animal.orElseThrow(() -> new AnimalNotFoundException("Could not find animal with id - " + id));
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = ANIMALS_CACHE, key = "#animal.id")
     public Animal saveAnimal(Animal animal) {
-        Enclosure enclosure = getEnclosureForAnimal(animal.getFood(), animal.getAmount());
-        animal.setEnclosureId(enclosure.getId());
-        updateEnclosureWithAnimal(enclosure, animal.getAmount(), animal.getFood());
+        validateFood(animal.getFood());
+        animal.setEnclosureId(reserveEnclosure(animal.getFood(), animal.getAmount()));
+        resolveSpeciesOf(List.of(animal));
 
         return animalRepository.save(animal);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = ANIMALS_CACHE, key = "#id")
     public Animal updateAnimal(UUID id, Animal animal) {
         try {
-            Animal tempAnimal = findAnimalById(id);
-            Enclosure enclosure = findEnclosureById(tempAnimal.getEnclosureId());
-            animal.setId(id);
-            animal.setFood(tempAnimal.getFood());
-            animal.setEnclosureId(tempAnimal.getEnclosureId());
-            updateEnclosureWithAmount(enclosure, animal.getAmount() - tempAnimal.getAmount());
-
-            return animalRepository.save(animal);
+            Animal storedAnimal = lockAnimal(id);
+            if (enclosureRepository.reserveSpace(storedAnimal.getEnclosureId(), animal.getAmount() - storedAnimal.getAmount()) == 0) {
+                zooMetrics.notEnoughFreeSpace();
+                throw new NotEnoughFreeSpaceInEnclosure("Update failed. Enclosure can`t store such amount of animals.");
+            }
+            zooMetrics.placementsSucceeded(1);
+            refreshPlacementIndex(storedAnimal.getEnclosureId());
+            storedAnimal.setSpecies(animal.getSpecies());
+            storedAnimal.setAmount(animal.getAmount());
+            resolveSpeciesOf(List.of(storedAnimal));
+
+            return animalRepository.save(storedAnimal);
         } catch (AnimalNotFoundException e) {
             throw new AnimalNotFoundException("Update failed. Could not find animal with id - " + id);
         }
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = ANIMALS_CACHE, key = "#id")
     public void deleteAnimalById(UUID id) {
         try {
-            Animal animal = findAnimalById(id);
-            Enclosure enclosure = findEnclosureById(animal.getEnclosureId());
-            updateEnclosureWithAnimal(enclosure, -animal.getAmount(), animal.getFood());
-            animalRepository.deleteById(id);
+            Animal animal = lockAnimal(id);
+            if (animalRepository.removeById(id) == 0) {
+                throw new AnimalNotFoundException("Could not find animal with id - " + id);
+            }
+            enclosureRepository.releaseSpaceOfAnimal(
+                    animal.getEnclosureId(), animal.getAmount(), animal.getFood() == Food.CARNIVORE);
+            refreshPlacementIndex(animal.getEnclosureId());
         } catch (AnimalNotFoundException e) {
             throw new AnimalNotFoundException("Deletion failed. Could not find animal with id - " + id);
         }
     }
 
-    public List<Enclosure> storeEnclosures(MultipartFile file) {
+    @Transactional
+    public List<BatchItemResult<Animal>> saveAnimals(List<Animal> animals) {
+        List<BatchItemResult<Animal>> results = new ArrayList<>(Collections.nCopies(animals.size(), null));
+        List<Integer> pendingAnimals = new ArrayList<>();
+        for (int i = 0; i < animals.size(); i++) {
+            try {
+                validateFood(animals.get(i).getFood());
+                pendingAnimals.add(i);
+            } catch (IncorrectAnimalTypeException e) {
+                results.set(i, BatchItemResult.failed(i, e.getMessage()));
+            }
+        }
+        Map<UUID, Enclosure> lockedEnclosures = new HashMap<>();
+        EnclosurePlacementIndex lockedIndex = new EnclosurePlacementIndex();
+        loadPlacementIndex();
+        Set<UUID> plannedEnclosureIds;
+        while (!pendingAnimals.isEmpty()
+                && !(plannedEnclosureIds = planEnclosuresToLock(animals, pendingAnimals, lockedEnclosures)).isEmpty()) {
+            lockEnclosures(plannedEnclosureIds, lockedEnclosures, lockedIndex);
+            pendingAnimals = placeInLockedEnclosures(animals, pendingAnimals, lockedEnclosures, lockedIndex, results);
+        }
+        for (int i : pendingAnimals) {
+            zooMetrics.noSuitableEnclosureFound();
+            results.set(i, BatchItemResult.failed(i, "Can`t find suitable enclosure for given animal."));
+        }
+        List<Animal> placedAnimals = results.stream()
+                .filter(BatchItemResult::isSucceeded)
+                .map(BatchItemResult::result)
+                .toList();
+        resolveSpeciesOf(placedAnimals);
+        animalRepository.saveAll(placedAnimals);
+        animalRepository.flush();
+        zooMetrics.placementsSucceeded(placedAnimals.size());
+
+        return results;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = ANIMALS_CACHE, allEntries = true)
+    public List<BatchItemResult<Animal>> updateAnimals(List<Animal> animals) {
+        Map<UUID, Animal> storedAnimals = lockAnimals(animals.stream().map(Animal::getId).toList());
+        Map<UUID, Enclosure> lockedEnclosures = lockEnclosuresOf(storedAnimals.values());
+        List<BatchItemResult<Animal>> results = new ArrayList<>(animals.size());
+        int updated = 0;
+        for (int i = 0; i < animals.size(); i++) {
+            Animal animal = animals.get(i);
+            Animal storedAnimal = storedAnimals.get(animal.getId());
+            if (storedAnimal == null) {
+                results.add(BatchItemResult.failed(i, "Update failed. Could not find animal with id - " + animal.getId()));
+                continue;
+            }
+            Enclosure enclosure = lockedEnclosures.get(storedAnimal.getEnclosureId());
+            int requiredSpace = animal.getAmount() - storedAnimal.getAmount();
+            if (enclosure == null || enclosure.getFreeSpace() < requiredSpace) {
+                zooMetrics.notEnoughFreeSpace();
+                results.add(BatchItemResult.failed(i, "Update failed. Enclosure can`t store such amount of animals."));
+                continue;
+            }
+            enclosure.setFreeSpace(enclosure.getFreeSpace() - requiredSpace);
+            putIntoPlacementIndex(enclosure);
+            storedAnimal.setSpecies(animal.getSpecies());
+            storedAnimal.setAmount(animal.getAmount());
+            results.add(BatchItemResult.succeeded(i, storedAnimal));
+            updated++;
+        }
+        resolveSpeciesOf(storedAnimals.values());
+        animalRepository.flush();
+        zooMetrics.placementsSucceeded(updated);
+
+        return results;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = ANIMALS_CACHE, allEntries = true)
+    public List<BatchItemResult<UUID>> deleteAnimalsByIds(List<UUID> ids) {
+        Map<UUID, Animal> storedAnimals = lockAnimals(ids);
+        Map<UUID, Enclosure> lockedEnclosures = lockEnclosuresOf(storedAnimals.values());
+        removeLockedAnimals(storedAnimals.keySet());
+        List<BatchItemResult<UUID>> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Animal animal = storedAnimals.remove(ids.get(i));
+            if (animal == null) {
+                results.add(BatchItemResult.failed(i, "Deletion failed. Could not find animal with id - " + ids.get(i)));
+                continue;
+            }
+            Enclosure enclosure = lockedEnclosures.get(animal.getEnclosureId());
+            if (enclosure != null) {
+                enclosure.setFreeSpace(enclosure.getFreeSpace() + animal.getAmount());
+                enclosure.removeAnimals(animal.getFood());
+                putIntoPlacementIndex(enclosure);
+            }
+            results.add(BatchItemResult.succeeded(i, animal.getId()));
+        }
+        enclosureRepository.flush();
+
+        return results;
+    }
+
+    @Transactional
+    public ImportReport storeEnclosures(MultipartFile file) {
+        return storeEnclosures(file, records -> {
+        });
+    }
+
+    @Transactional
+    public ImportReport storeEnclosures(MultipartFile file, LoadMethod load) {
+        return storeEnclosures(file, records -> {
+        }, load);
+    }
+
+    @Transactional
+    public ImportReport storeEnclosures(MultipartFile file, IntConsumer progressListener, LoadMethod load) {
+        return load == LoadMethod.COPY ?
+                storeEnclosuresWithCopy(file, progressListener) :
+                storeEnclosures(file, progressListener);
+    }
+
+    @Transactional
+    public ImportReport storeEnclosures(MultipartFile file, IntConsumer progressListener) {
+        ImportStopwatch stopwatch = new ImportStopwatch();
+        validateEnclosures(file);
         evaluateIfEnclosuresAreNotStoredAlready();
-        EnclosuresList enclosuresList = inputReadingService.retrieveEnclosuresData(file);
+        inputReadingService.retrieveEnclosuresData(file, IMPORT_CHUNK_SIZE, chunk -> {
+            List<Enclosure> enclosures = new EnclosuresList(chunk).toEntity();
+            stopwatch.timePersistence(() -> {
+                resolveObjectsOf(enclosures);
+                List<Enclosure> storedEnclosures = enclosureRepository.saveAllAndFlush(enclosures);
+                storedEnclosures.forEach(entityManager::detach);
+            });
+            stopwatch.recordsProcessed(enclosures.size());
+            progressListener.accept(enclosures.size());
+        });
+        afterCommit(placementIndex::invalidate);
+        ImportReport report = stopwatch.stop();
+        log.info("Imported enclosures from file {}: {}", file.getOriginalFilename(), report);
+        zooMetrics.importCompleted("enclosures", report);
+
+        return report;
+    }
 
-        return enclosureRepository.saveAll(enclosuresList.toEntity());
+    @Transactional
+    public ImportReport storeAnimals(MultipartFile file) {
+        return storeAnimals(file, records -> {
+        });
     }
 
-    public List<Animal> storeAnimals(MultipartFile file) {
+    @Transactional
+    public ImportReport storeAnimals(MultipartFile file, PlacementStrategy strategy) {
+        return storeAnimals(file, records -> {
+        }, strategy);
+    }
+
+    @Transactional
+    public ImportReport storeAnimals(MultipartFile file, PlacementStrategy strategy, LoadMethod load) {
+        return storeAnimals(file, records -> {
+        }, strategy, load);
+    }
+
+    @Transactional
+    public ImportReport storeAnimals(
+            MultipartFile file, IntConsumer progressListener, PlacementStrategy strategy, LoadMethod load
+    ) {
+        return load == LoadMethod.COPY ?
+                storeAnimalsWithCopy(file, progressListener, strategy) :
+                storeAnimals(file, progressListener, strategy);
+    }
+
+    @Transactional
+    public ImportReport storeAnimals(MultipartFile file, IntConsumer progressListener, PlacementStrategy strategy) {
+        return strategy == PlacementStrategy.BEST_FIT_DECREASING ?
+                storeAnimalsWithPlanning(file, progressListener) :
+                storeAnimals(file, progressListener);
+    }
+
+    @Transactional
+    public ImportReport storeAnimals(MultipartFile file, IntConsumer progressListener) {
+        ImportStopwatch stopwatch = new ImportStopwatch();
+        validateAnimals(file);
         evaluateIfEnclosuresAreStored();
         evaluateIfAnimalsAreNotStoredAlready();
-        AnimalsList animalsList = inputReadingService.retrieveAnimalsData(file);
-        List<Animal> givenAnimals = animalsList.toEntity();
-        for (Animal animal : givenAnimals) {
-            saveAnimal(animal);
+        Map<UUID, Enclosure> enclosures = stopwatch.timePlacement(this::loadEnclosuresForPlacement);
+        EnclosurePlacementIndex importIndex = indexOf(enclosures.values());
+        Set<Enclosure> importedEnclosures = new LinkedHashSet<>();
+        inputReadingService.retrieveAnimalsData(file, IMPORT_CHUNK_SIZE, chunk -> {
+            List<Animal> animals = new AnimalsList(chunk).toEntity();
+            Set<Enclosure> changedEnclosures = stopwatch.timePlacement(() -> placeAnimals(animals, enclosures, importIndex));
+            zooMetrics.placementsSucceeded(animals.size());
+            stopwatch.timePersistence(() -> {
+                resolveSpeciesOf(animals);
+                List<Animal> storedAnimals = animalRepository.saveAll(animals);
+                enclosureRepository.saveAllAndFlush(changedEnclosures);
+                storedAnimals.forEach(entityManager::detach);
+            });
+            importedEnclosures.addAll(changedEnclosures);
+            stopwatch.recordsProcessed(animals.size());
+            progressListener.accept(animals.size());
+        });
+        publishAfterCommit(importedEnclosures);
+        ImportReport report = stopwatch.stop();
+        log.info("Imported animals from file {}: {}", file.getOriginalFilename(), report);
+        zooMetrics.importCompleted("animals", report);
+
+        return report;
+    }
+
+    private ImportReport storeAnimalsWithPlanning(MultipartFile file, IntConsumer progressListener) {
+        ImportStopwatch stopwatch = new ImportStopwatch();
+        List<Animal> animals = readValidatedAnimals(file);
+        evaluateIfEnclosuresAreStored();
+        evaluateIfAnimalsAreNotStoredAlready();
+        Map<UUID, Enclosure> enclosures = stopwatch.timePlacement(this::loadEnclosuresForPlacement);
+        Set<Enclosure> changedEnclosures = new LinkedHashSet<>();
+        placeAllAnimals(animals, enclosures, changedEnclosures, stopwatch);
+        forEachChunk(animals, chunk -> {
+            stopwatch.timePersistence(() -> {
+                resolveSpeciesOf(chunk);
+                List<Animal> storedAnimals = animalRepository.saveAllAndFlush(chunk);
+                storedAnimals.forEach(entityManager::detach);
+            });
+            stopwatch.recordsProcessed(chunk.size());
+            progressListener.accept(chunk.size());
+        });
+        stopwatch.timePersistence(() -> enclosureRepository.saveAllAndFlush(changedEnclosures));
+        publishAfterCommit(changedEnclosures);
+        ImportReport report = stopwatch.stop();
+        log.info("Imported animals from file {}: {}", file.getOriginalFilename(), report);
+        zooMetrics.importCompleted("animals", report);
+
+        return report;
+    }
+
+    private ImportReport storeEnclosuresWithCopy(MultipartFile file, IntConsumer progressListener) {
+        ImportStopwatch stopwatch = new ImportStopwatch();
+        validateEnclosures(file);
+        evaluateIfEnclosuresAreNotStoredAlready();
+        try (BulkLoad<Enclosure> load = bulkLoadRepository.loadEnclosures()) {
+            inputReadingService.retrieveEnclosuresData(file, IMPORT_CHUNK_SIZE, chunk -> {
+                List<Enclosure> enclosures = new EnclosuresList(chunk).toEntity();
+                stopwatch.timePersistence(() -> load.write(enclosures));
+                stopwatch.recordsProcessed(enclosures.size());
+                progressListener.accept(enclosures.size());
+            });
+            stopwatch.timePersistence(load::finish);
+            afterCommit(placementIndex::invalidate);
+            ImportReport report = stopwatch.stop();
+            log.info("Bulk loaded enclosures from file {}: {}", file.getOriginalFilename(), report);
+            zooMetrics.importCompleted("enclosures", report);
+
+            return report;
+        }
+    }
+
+    private ImportReport storeAnimalsWithCopy(MultipartFile file, IntConsumer progressListener, PlacementStrategy strategy) {
+        ImportStopwatch stopwatch = new ImportStopwatch();
+        List<Animal> plannedAnimals = null;
+        if (strategy == PlacementStrategy.BEST_FIT_DECREASING) {
+            plannedAnimals = readValidatedAnimals(file);
+        } else {
+            validateAnimals(file);
         }
+        evaluateIfEnclosuresAreStored();
+        evaluateIfAnimalsAreNotStoredAlready();
+        Map<UUID, Enclosure> enclosures = stopwatch.timePlacement(this::loadEnclosuresForPlacement);
+        enclosures.values().forEach(entityManager::detach);
+        EnclosurePlacementIndex importIndex = indexOf(enclosures.values());
+        Set<Enclosure> changedEnclosures = new LinkedHashSet<>();
+        try (BulkLoad<Animal> load = bulkLoadRepository.loadAnimals()) {
+            Consumer<List<Animal>> copyChunk = animals -> {
+                stopwatch.timePersistence(() -> load.write(animals));
+                stopwatch.recordsProcessed(animals.size());
+                progressListener.accept(animals.size());
+            };
+            if (plannedAnimals != null) {
+                placeAllAnimals(plannedAnimals, enclosures, changedEnclosures, stopwatch);
+                forEachChunk(plannedAnimals, copyChunk);
+            } else {
+                inputReadingService.retrieveAnimalsData(file, IMPORT_CHUNK_SIZE, chunk -> {
+                    List<Animal> animals = new AnimalsList(chunk).toEntity();
+                    changedEnclosures.addAll(stopwatch.timePlacement(() -> placeAnimals(animals, enclosures, importIndex)));
+                    zooMetrics.placementsSucceeded(animals.size());
+                    copyChunk.accept(animals);
+                });
+            }
+            stopwatch.timePersistence(load::finish);
+        }
+        stopwatch.timePersistence(() -> bulkLoadRepository.updateEnclosureCounters(changedEnclosures));
+        publishAfterCommit(changedEnclosures);
+        ImportReport report = stopwatch.stop();
+        log.info("Bulk loaded animals from file {}: {}", file.getOriginalFilename(), report);
+        zooMetrics.importCompleted("animals", report);
+
+        return report;
+    }
+
+    private void validateEnclosures(MultipartFile file) {
+        ImportValidator<EnclosureDetails> validator = ImportValidator.forEnclosures();
+        inputReadingService.retrieveEnclosuresData(file, IMPORT_CHUNK_SIZE, validator::validate);
+        completeValidation(file, "enclosures", validator);
+    }
+
+    private void validateAnimals(MultipartFile file) {
+        ImportValidator<AnimalDetails> validator = ImportValidator.forAnimals();
+        inputReadingService.retrieveAnimalsData(file, IMPORT_CHUNK_SIZE, validator::validate);
+        completeValidation(file, "animals", validator);
+    }
+
+    private List<Animal> readValidatedAnimals(MultipartFile file) {
+        AnimalsList animals = inputReadingService.retrieveAnimalsData(file);
+        ImportValidator<AnimalDetails> validator = ImportValidator.forAnimals();
+        validator.validate(animals.animals());
+        completeValidation(file, "animals", validator);
 
-        return animalRepository.findAll();
+        return animals.toEntity();
     }
 
-    private Enclosure getEnclosureForAnimal(String food, int amount) {
-        if (!food.equalsIgnoreCase("Carnivore") && !food.equalsIgnoreCase("Herbivore")) {
+    private void completeValidation(MultipartFile file, String data, ImportValidator<?> validator) {
+        try {
+            validator.complete();
+        } catch (ImportValidationException e) {
+            zooMetrics.importRejected(data, e.getErrorCount());
+            log.info("Rejected {} file {}: {} errors in {} records", data, file.getOriginalFilename(), e.getErrorCount(), validator.records());
+            throw e;
+        }
+    }
+
+    private void placeAllAnimals(
+            List<Animal> animals, Map<UUID, Enclosure> enclosures, Set<Enclosure> changedEnclosures, ImportStopwatch stopwatch
+    ) {
+        PlacementPlan plan = stopwatch.timePlacement(() -> planPlacement(animals, enclosures.values()));
+        if (!plan.isComplete()) {
+            zooMetrics.noSuitableEnclosureFound();
+            throw new EnclosureNotFoundException("Can`t find suitable enclosure for given animal.");
+        }
+        changedEnclosures.addAll(stopwatch.timePlacement(() -> applyPlan(animals, plan, enclosures)));
+        zooMetrics.placementsSucceeded(animals.size());
+    }
+
+    private void forEachChunk(List<Animal> animals, Consumer<List<Animal>> action) {
+        for (int from = 0; from < animals.size(); from += IMPORT_CHUNK_SIZE) {
+            action.accept(animals.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, animals.size())));
+        }
+    }
+
+    private PlacementPlan planPlacement(List<Animal> animals, Collection<Enclosure> enclosures) {
+        PlacementPlan baseline = placementPlanner.plan(animals, enclosures, PlacementStrategy.IN_ORDER);
+        PlacementPlan plan = placementPlanner.plan(animals, enclosures, PlacementStrategy.BEST_FIT_DECREASING);
+        log.info("Placement planned for {} animals. {}; compared to {}", animals.size(), plan.report(), baseline.report());
+        zooMetrics.placementPlanned(baseline.report());
+        zooMetrics.placementPlanned(plan.report());
+
+        return plan;
+    }
+
+    private Set<Enclosure> applyPlan(List<Animal> animals, PlacementPlan plan, Map<UUID, Enclosure> enclosures) {
+        Set<Enclosure> changedEnclosures = new LinkedHashSet<>();
+        for (int i = 0; i < animals.size(); i++) {
+            Animal animal = animals.get(i);
+            Enclosure enclosure = enclosures.get(plan.enclosureIds().get(i));
+            animal.setEnclosureId(enclosure.getId());
+            placeAnimalInEnclosure(enclosure, animal.getAmount(), animal.getFood());
+            changedEnclosures.add(enclosure);
+        }
+
+        return changedEnclosures;
+    }
+
+    /**
+     * Locks the animal row, so the space released or reserved for it is computed from the amount that is stored
+     * while no concurrent request can change or delete it.
+     */
+    private Animal lockAnimal(UUID id) {
+        return animalRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new AnimalNotFoundException("Could not find animal with id - " + id));
+    }
+
+    /**
+     * Locks the animal rows in id order before their enclosures, so concurrent batches can't deadlock on them and
+     * the amounts used for the space deltas can't change until the transaction ends.
+     */
+    private Map<UUID, Animal> lockAnimals(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return animalRepository.findAllByIdForUpdate(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Animal::getId, Function.identity()));
+    }
+
+    /**
+     * Deletes the locked animals and checks that every one of them was removed, so their space is released exactly
+     * once.
+     */
+    private void removeLockedAnimals(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        int removedAnimals = animalRepository.removeAllById(ids);
+        if (removedAnimals != ids.size()) {
+            throw new IllegalStateException(
+                    "Deletion failed. Removed " + removedAnimals + " of " + ids.size() + " locked animals.");
+        }
+    }
+
+    private Map<UUID, Enclosure> lockEnclosuresOf(Collection<Animal> animals) {
+        Set<UUID> enclosureIds = animals.stream()
+                .map(Animal::getEnclosureId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (enclosureIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return enclosureRepository.findAllByIdForUpdate(enclosureIds).stream()
+                .collect(Collectors.toMap(Enclosure::getId, Function.identity()));
+    }
+
+    private Map<UUID, Enclosure> loadEnclosuresForPlacement() {
+        return enclosureRepository.findAll().stream()
+                .collect(Collectors.toMap(Enclosure::getId, Function.identity()));
+    }
+
+    /**
+     * Places animals using an index private to the import, so other requests don't see its uncommitted changes.
+     */
+    private Set<Enclosure> placeAnimals(
+            List<Animal> animals, Map<UUID, Enclosure> enclosures, EnclosurePlacementIndex importIndex
+    ) {
+        Set<Enclosure> changedEnclosures = new LinkedHashSet<>();
+        for (Animal animal : animals) {
+            validateFood(animal.getFood());
+            Enclosure enclosure = importIndex.findCandidate(animal.getFood(), animal.getAmount(), Set.of())
+                    .map(enclosures::get)
+                    .orElseThrow(() -> {
+                        zooMetrics.noSuitableEnclosureFound();
+                        return new EnclosureNotFoundException("Can`t find suitable enclosure for given animal.");
+                    });
+            animal.setEnclosureId(enclosure.getId());
+            placeAnimalInEnclosure(enclosure, animal.getAmount(), animal.getFood());
+            importIndex.put(enclosure);
+            changedEnclosures.add(enclosure);
+        }
+
+        return changedEnclosures;
+    }
+
+    private static EnclosurePlacementIndex indexOf(Collection<Enclosure> enclosures) {
+        EnclosurePlacementIndex index = new EnclosurePlacementIndex();
+        index.load(enclosures);
+
+        return index;
+    }
+
+    /**
+     * Resolves the species of the animals in two statements before they are flushed, so the converter only reads
+     * the ids from memory instead of querying the lookup table for every row of the batch.
+     */
+    private void resolveSpeciesOf(Collection<Animal> animals) {
+        nameDictionaries.resolveSpecies(animals.stream().map(Animal::getSpecies).toList());
+    }
+
+    private void resolveObjectsOf(Collection<Enclosure> enclosures) {
+        nameDictionaries.resolveEnclosureObjects(enclosures.stream()
+                .filter(enclosure -> enclosure.getObjects() != null)
+                .flatMap(enclosure -> enclosure.getObjects().stream())
+                .toList());
+    }
+
+    private void validateFood(Food food) {
+        if (food == null) {
             throw new IncorrectAnimalTypeException("Please specify correct animal food. Usage 'Carnivore' or 'Herbivore'.");
         }
-        List<Enclosure> enclosures = enclosureRepository.findAll();
+    }
 
-        return findSuitableEnclosure(food, amount, enclosures);
+    private UUID reserveEnclosure(Food food, int amount) {
+        loadPlacementIndex();
+        Set<UUID> rejectedEnclosures = new HashSet<>();
+        Optional<UUID> candidateId;
+        while ((candidateId = placementIndex.findCandidate(food, amount, rejectedEnclosures)).isPresent()) {
+            if (tryReserve(candidateId.get(), food, amount)) {
+                return candidateId.get();
+            }
+            rejectedEnclosures.add(candidateId.get());
+        }
+        Optional<UUID> storedCandidateId;
+        while ((storedCandidateId = findBestFitInDatabase(food, amount)).isPresent()) {
+            if (tryReserve(storedCandidateId.get(), food, amount)) {
+                return storedCandidateId.get();
+            }
+        }
+
+        zooMetrics.noSuitableEnclosureFound();
+        throw new EnclosureNotFoundException("Can`t find suitable enclosure for given animal.");
     }
 
-    private void updateEnclosureWithAnimal(Enclosure enclosure, int amount, String food) {
-        enclosure.setFreeSpace(enclosure.getFreeSpace() - amount);
-        if (amount > 0) {
-            enclosure.setAnimals(food);
+    private boolean tryReserve(UUID enclosureId, Food food, int amount) {
+        boolean reserved = enclosureRepository.reserveSpaceForAnimal(enclosureId, amount, food == Food.CARNIVORE) == 1;
+        refreshPlacementIndex(enclosureId);
+        if (reserved) {
+            zooMetrics.placementsSucceeded(1);
+        }
+
+        return reserved;
+    }
+
+    private Optional<UUID> findBestFitInDatabase(Food food, int amount) {
+        return food == Food.CARNIVORE ?
+                enclosureRepository.findBestFitIdForCarnivores(amount) :
+                enclosureRepository.findBestFitIdForHerbivores(amount);
+    }
+
+    /**
+     * Plans the pending animals against the index, with already locked enclosures in their current state, and
+     * returns the planned enclosures that are not locked yet. They are locked together, in id order.
+     */
+    private Set<UUID> planEnclosuresToLock(
+            List<Animal> animals, List<Integer> pendingAnimals, Map<UUID, Enclosure> lockedEnclosures
+    ) {
+        Map<UUID, Enclosure> enclosures = new LinkedHashMap<>();
+        placementIndex.snapshot().forEach(enclosure -> enclosures.put(enclosure.getId(), enclosure));
+        enclosures.putAll(lockedEnclosures);
+        List<Animal> pending = pendingAnimals.stream().map(animals::get).toList();
+        PlacementPlan plan = placementPlanner.plan(pending, enclosures.values(), PlacementStrategy.IN_ORDER);
+
+        return plan.enclosureIds().stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !lockedEnclosures.containsKey(id))
+                .collect(Collectors.toSet());
+    }
+
+    private void lockEnclosures(
+            Set<UUID> enclosureIds, Map<UUID, Enclosure> lockedEnclosures, EnclosurePlacementIndex lockedIndex
+    ) {
+        for (Enclosure enclosure : enclosureRepository.findAllByIdForUpdate(enclosureIds)) {
+            lockedEnclosures.put(enclosure.getId(), enclosure);
+            lockedIndex.put(enclosure);
+            putIntoPlacementIndex(enclosure);
+        }
+        enclosureIds.stream()
+                .filter(id -> !lockedEnclosures.containsKey(id))
+                .forEach(this::removeFromPlacementIndex);
+    }
+
+    private List<Integer> placeInLockedEnclosures(
+            List<Animal> animals,
+            List<Integer> pendingAnimals,
+            Map<UUID, Enclosure> lockedEnclosures,
+            EnclosurePlacementIndex lockedIndex,
+            List<BatchItemResult<Animal>> results
+    ) {
+        List<Integer> unplacedAnimals = new ArrayList<>();
+        for (int i : pendingAnimals) {
+            Animal animal = animals.get(i);
+            Optional<UUID> enclosureId = lockedIndex.findCandidate(animal.getFood(), animal.getAmount(), Set.of());
+            if (enclosureId.isEmpty()) {
+                unplacedAnimals.add(i);
+                continue;
+            }
+            Enclosure enclosure = lockedEnclosures.get(enclosureId.get());
+            animal.setEnclosureId(enclosure.getId());
+            placeAnimalInEnclosure(enclosure, animal.getAmount(), animal.getFood());
+            lockedIndex.put(enclosure);
+            putIntoPlacementIndex(enclosure);
+            results.set(i, BatchItemResult.succeeded(i, animal));
+        }
+
+        return unplacedAnimals;
+    }
+
+    private void publishAfterCommit(Collection<Enclosure> enclosures) {
+        afterCommit(() -> enclosures.forEach(placementIndex::put));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
         } else {
-            enclosure.removeAnimals(food);
+            action.run();
         }
+    }
 
-        enclosureRepository.save(enclosure);
+    private void putIntoPlacementIndex(Enclosure enclosure) {
+        placementIndex.put(enclosure, placementIndexUndoLog());
     }
 
-    private Enclosure findEnclosureById(UUID id) {
-        Optional<Enclosure> enclosure = enclosureRepository.findById(id);
-        return enclosure.orElseThrow();
+    private void removeFromPlacementIndex(UUID enclosureId) {
+        placementIndex.remove(enclosureId, placementIndexUndoLog());
     }
 
-    private void updateEnclosureWithAmount(Enclosure enclosure, int amount) {
-        if (enclosure.getFreeSpace() - amount < 0) {
-            throw new NotEnoughFreeSpaceInEnclosure("Update failed. Enclosure can`t store such amount of animals.");
+    /**
+     * Returns the undo log of the current transaction, registering it on first use, so a rollback restores only
+     * the enclosures this transaction changed in the index.
+     */
+    private UndoLog placementIndexUndoLog() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return UndoLog.NONE;
+        }
+        UndoLog undoLog = (UndoLog) TransactionSynchronizationManager.getResource(placementIndex);
+        if (undoLog == null) {
+            UndoLog transactionUndoLog = new UndoLog();
+            TransactionSynchronizationManager.bindResource(placementIndex, transactionUndoLog);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(placementIndex);
+                    if (status != STATUS_COMMITTED) {
+                        placementIndex.undo(transactionUndoLog);
+                    }
+                }
+            });
+            undoLog = transactionUndoLog;
         }
 
+        return undoLog;
+    }
+
+    private void loadPlacementIndex() {
+        placementIndex.loadIfNeeded(() -> enclosureRepository.findAllOccupancies().stream()
+                .map(occupancy -> new Enclosure(
+                        occupancy.id(),
+                        null,
+                        occupancy.size(),
+                        null,
+                        List.of(),
+                        occupancy.freeSpace(),
+                        occupancy.carnivoreGroups(),
+                        occupancy.herbivoreGroups()
+                ))
+                .toList());
+    }
+
+    private void refreshPlacementIndex(UUID enclosureId) {
+        enclosureRepository.findById(enclosureId).ifPresentOrElse(
+                this::putIntoPlacementIndex,
+                () -> removeFromPlacementIndex(enclosureId)
+        );
+    }
+
+    private void placeAnimalInEnclosure(Enclosure enclosure, int amount, Food food) {
         enclosure.setFreeSpace(enclosure.getFreeSpace() - amount);
-        enclosureRepository.save(enclosure);
+        enclosure.addAnimals(food);
     }
 
     private void evaluateIfEnclosuresAreStored() {
@@ -150,30 +876,9 @@ public class ZooService {
         }
     }
 
-    private List<Enclosure> findAllEnclosures() {
-        return enclosureRepository.findAll();
-    }
-
-    private Enclosure findSuitableEnclosure(String food, int amount, List<Enclosure> enclosures) {
-        boolean foundSuitableEnclosure = false;
-        Enclosure suitableEnclosure = null;
-        for (Enclosure enclosure : enclosures) {
-            if (suitableEnclosureIsFound(enclosure, food, amount)) {
-                suitableEnclosure = enclosure;
-                foundSuitableEnclosure = true;
-                break;
-            }
-        }
-        if (!foundSuitableEnclosure) {
-            throw new EnclosureNotFoundException("Can`t find suitable enclosure for given animal.");
-        }
-
-        return suitableEnclosure;
-    }
-
-    private boolean suitableEnclosureIsFound(Enclosure enclosure, String food, int amount) {
-        return food.equals("Carnivore") ?
-                Collections.frequency(enclosure.getAnimals(), "Carnivore") <= 1 && enclosure.getFreeSpace() - amount >= 0 :
+    static boolean suitableEnclosureIsFound(Enclosure enclosure, Food food, int amount) {
+        return food == Food.CARNIVORE ?
+                enclosure.getCarnivoreGroups() <= 1 && enclosure.getFreeSpace() - amount >= 0 :
                 enclosure.getFreeSpace() - amount >= 0;
     }
 }
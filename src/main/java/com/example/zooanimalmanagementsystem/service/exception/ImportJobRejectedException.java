@@ -0,0 +1,8 @@
+package com.example.zooanimalmanagementsystem.service.exception;
+
+public class ImportJobRejectedException extends RuntimeException {
+
+    public ImportJobRejectedException(String message) {
+        super(message);
+    }
+}
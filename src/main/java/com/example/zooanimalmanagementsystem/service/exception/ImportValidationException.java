@@ -0,0 +1,44 @@
+package com.example.zooanimalmanagementsystem.service.exception;
+
+import com.example.zooanimalmanagementsystem.service.model.ImportValidationError;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ImportValidationException extends RuntimeException {
+
+    private static final int ERRORS_IN_MESSAGE = 20;
+
+    private final List<ImportValidationError> errors;
+    private final int errorCount;
+    private final int recordCount;
+
+    public ImportValidationException(List<ImportValidationError> errors, int errorCount, int recordCount) {
+        super(describe(errors, errorCount));
+        this.errors = List.copyOf(errors);
+        this.errorCount = errorCount;
+        this.recordCount = recordCount;
+    }
+
+    public List<ImportValidationError> getErrors() {
+        return errors;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    private static String describe(List<ImportValidationError> errors, int errorCount) {
+        String details = errors.stream()
+                .limit(ERRORS_IN_MESSAGE)
+                .map(ImportValidationError::toString)
+                .collect(Collectors.joining("; "));
+        String omitted = errorCount > ERRORS_IN_MESSAGE ? "; and " + (errorCount - ERRORS_IN_MESSAGE) + " more" : "";
+
+        return "File reading cancelled. Found " + errorCount + " invalid records: " + details + omitted;
+    }
+}
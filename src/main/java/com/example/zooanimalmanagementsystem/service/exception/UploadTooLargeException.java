@@ -0,0 +1,8 @@
+package com.example.zooanimalmanagementsystem.service.exception;
+
+public class UploadTooLargeException extends RuntimeException {
+
+    public UploadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+public record BatchItemResult<T>(int index, T result, String error) {
+
+    public static <T> BatchItemResult<T> succeeded(int index, T result) {
+        return new BatchItemResult<>(index, result, null);
+    }
+
+    public static <T> BatchItemResult<T> failed(int index, String error) {
+        return new BatchItemResult<>(index, null, error);
+    }
+
+    public boolean isSucceeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+public record EnclosureCapacity(int total, int free) {
+}
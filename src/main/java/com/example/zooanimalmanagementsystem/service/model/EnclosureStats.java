@@ -0,0 +1,20 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import java.util.List;
+
+public record EnclosureStats(
+        int enclosures,
+        int capacity,
+        int freeSpace,
+        int carnivoreGroups,
+        int herbivoreGroups,
+        List<SizeClassStats> sizeClasses
+) {
+
+    public double utilisation() {
+        return capacity == 0 ? 0 : (double) (capacity - freeSpace) / capacity;
+    }
+
+    public record SizeClassStats(String size, int enclosures, int capacity, int freeSpace) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+public class ImportJob {
+
+    private final UUID id;
+    private final String dataType;
+    private final String fileName;
+    private final Instant createdAt;
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile int recordsProcessed;
+    private volatile int recordsFailed;
+    private volatile String error;
+
+    public ImportJob(UUID id, String dataType, String fileName) {
+        this.id = id;
+        this.dataType = dataType;
+        this.fileName = fileName;
+        createdAt = Instant.now();
+    }
+
+    public synchronized void start() {
+        status = ImportJobStatus.RUNNING;
+        startedAt = Instant.now();
+    }
+
+    public synchronized void recordsProcessed(int count) {
+        recordsProcessed += count;
+    }
+
+    public synchronized void complete() {
+        status = ImportJobStatus.COMPLETED;
+        finishedAt = Instant.now();
+    }
+
+    /**
+     * Fails a job whose file was rejected before anything was stored, so every record in it counts as failed.
+     */
+    public synchronized void fail(String error, int rejectedRecords) {
+        recordsFailed += rejectedRecords;
+        fail(error);
+    }
+
+    public synchronized void fail(String error) {
+        recordsFailed += recordsProcessed;
+        recordsProcessed = 0;
+        this.error = error;
+        status = ImportJobStatus.FAILED;
+        finishedAt = Instant.now();
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    public Duration getElapsedTime() {
+        if (startedAt == null) {
+            return Duration.ZERO;
+        }
+        Instant end = finishedAt == null ? Instant.now() : finishedAt;
+
+        return Duration.between(startedAt, end);
+    }
+
+    public double getRecordsPerSecond() {
+        long elapsedMillis = getElapsedTime().toMillis();
+        return elapsedMillis == 0 ? 0 : (recordsProcessed + recordsFailed) * 1000.0 / elapsedMillis;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getDataType() {
+        return dataType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public int getRecordsProcessed() {
+        return recordsProcessed;
+    }
+
+    public int getRecordsFailed() {
+        return recordsFailed;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
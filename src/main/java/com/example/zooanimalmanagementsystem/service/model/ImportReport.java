@@ -0,0 +1,24 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import java.time.Duration;
+
+public record ImportReport(int records, Duration parsing, Duration placement, Duration persistence) {
+
+    public Duration elapsed() {
+        return parsing.plus(placement).plus(persistence);
+    }
+
+    public double recordsPerSecond() {
+        Duration elapsed = elapsed();
+        return elapsed.isZero() ? 0 : records * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        return records + " records" +
+               ", parsing=" + parsing.toMillis() + " ms" +
+               ", placement=" + placement.toMillis() + " ms" +
+               ", persistence=" + persistence.toMillis() + " ms" +
+               ", throughput=" + Math.round(recordsPerSecond()) + " records/s";
+    }
+}
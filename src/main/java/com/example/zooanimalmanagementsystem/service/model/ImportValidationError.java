@@ -0,0 +1,9 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+public record ImportValidationError(int index, String message) {
+
+    @Override
+    public String toString() {
+        return "record " + index + ": " + message;
+    }
+}
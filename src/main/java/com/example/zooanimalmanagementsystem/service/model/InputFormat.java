@@ -0,0 +1,31 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Locale;
+
+public enum InputFormat {
+    JSON,
+    NDJSON,
+    CSV;
+
+    public static InputFormat of(MultipartFile file) {
+        String contentType = file.getContentType() == null ? "" : file.getContentType().toLowerCase(Locale.ROOT);
+        if (contentType.startsWith("application/x-ndjson") || contentType.startsWith("application/jsonl")) {
+            return NDJSON;
+        }
+        if (contentType.startsWith("text/csv")) {
+            return CSV;
+        }
+
+        String fileName = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (fileName.endsWith(".csv")) {
+            return CSV;
+        }
+
+        return JSON;
+    }
+}
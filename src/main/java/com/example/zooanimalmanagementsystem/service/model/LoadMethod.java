@@ -0,0 +1,6 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+public enum LoadMethod {
+    BATCH,
+    COPY
+}
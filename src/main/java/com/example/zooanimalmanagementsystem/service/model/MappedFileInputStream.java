@@ -0,0 +1,81 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through read-only memory-mapped windows, so the bytes stay in the page cache instead of the heap.
+ * Only one window is mapped at a time, which keeps files larger than the address space of a single buffer readable.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileInputStream(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!hasRemaining()) {
+            return -1;
+        }
+
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, window.remaining());
+        window.get(bytes, offset, count);
+
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return window == null ? 0 : window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private boolean hasRemaining() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        long nextStart = window == null ? windowStart : windowStart + window.capacity();
+        if (nextStart >= size) {
+            return false;
+        }
+        windowStart = nextStart;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import java.time.Duration;
+
+public record PlacementReport(PlacementStrategy strategy, int placed, int unplaced, double utilisation, Duration elapsed) {
+
+    @Override
+    public String toString() {
+        return strategy +
+               ": placed=" + placed +
+               ", unplaced=" + unplaced +
+               ", utilisation=" + String.format("%.1f%%", utilisation * 100) +
+               ", elapsed=" + elapsed.toMillis() + " ms";
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PlacementSimulation(List<UUID> enclosureIds, PlacementReport report, int capacity, int freeSpace) {
+
+    public double utilisation() {
+        return capacity == 0 ? 0 : (double) (capacity - freeSpace) / capacity;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+public enum PlacementStrategy {
+    IN_ORDER,
+    BEST_FIT_DECREASING
+}
@@ -0,0 +1,11 @@
+ALTER TABLE enclosure
+    ADD COLUMN carnivore_groups INT NOT NULL DEFAULT 0,
+    ADD COLUMN herbivore_groups INT NOT NULL DEFAULT 0;
+
+UPDATE enclosure
+SET carnivore_groups = (SELECT count(*) FROM unnest(animals) AS a(food) WHERE food = 'Carnivore'),
+    herbivore_groups = (SELECT count(*) FROM unnest(animals) AS a(food) WHERE food NOT IN ('Carnivore', 'Empty'))
+WHERE animals IS NOT NULL;
+
+ALTER TABLE enclosure
+    DROP COLUMN animals;
@@ -0,0 +1,7 @@
+CREATE INDEX idx_animal_enclosure_id ON animal (enclosure_id);
+
+CREATE INDEX idx_animal_species ON animal (species);
+
+CREATE INDEX idx_enclosure_free_space ON enclosure (free_space);
+
+CREATE INDEX idx_enclosure_carnivore_free_space ON enclosure (free_space) WHERE carnivore_groups <= 1;
@@ -0,0 +1,61 @@
+DO $$
+DECLARE
+    unknown_food INT;
+BEGIN
+    SELECT count(*) INTO unknown_food
+    FROM animal
+    WHERE food IS NULL OR lower(food) NOT IN ('carnivore', 'herbivore');
+    IF unknown_food > 0 THEN
+        RAISE EXCEPTION '% animals have food other than Carnivore or Herbivore', unknown_food;
+    END IF;
+END $$;
+
+ALTER TABLE animal
+    ALTER COLUMN food TYPE SMALLINT
+    USING CASE lower(food) WHEN 'carnivore' THEN 1 WHEN 'herbivore' THEN 2 END,
+    ALTER COLUMN food SET NOT NULL;
+
+UPDATE enclosure
+SET carnivore_groups = (SELECT count(*) FROM animal WHERE animal.enclosure_id = enclosure.id AND animal.food = 1),
+    herbivore_groups = (SELECT count(*) FROM animal WHERE animal.enclosure_id = enclosure.id AND animal.food = 2);
+
+CREATE TABLE species (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+
+INSERT INTO species (name)
+SELECT DISTINCT species FROM animal WHERE species IS NOT NULL;
+
+ALTER TABLE animal ADD COLUMN species_id INT REFERENCES species (id);
+
+UPDATE animal
+SET species_id = species.id
+FROM species
+WHERE species.name = animal.species;
+
+DROP INDEX idx_animal_species;
+ALTER TABLE animal DROP COLUMN species;
+CREATE INDEX idx_animal_species_id ON animal (species_id);
+
+CREATE TABLE enclosure_object (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+INSERT INTO enclosure_object (name)
+SELECT DISTINCT item.name
+FROM enclosure, unnest(enclosure.objects) AS item(name)
+WHERE item.name IS NOT NULL;
+
+ALTER TABLE enclosure ADD COLUMN object_ids INT[];
+
+UPDATE enclosure
+SET object_ids = COALESCE((
+    SELECT array_agg(enclosure_object.id ORDER BY item.ordinal)
+    FROM unnest(enclosure.objects) WITH ORDINALITY AS item(name, ordinal)
+    JOIN enclosure_object ON enclosure_object.name = item.name
+), '{}')
+WHERE objects IS NOT NULL;
+
+ALTER TABLE enclosure DROP COLUMN objects;
@@ -0,0 +1,5 @@
+CREATE INDEX idx_enclosure_object_ids ON enclosure USING GIN (object_ids);
+
+CREATE INDEX idx_enclosure_location_id ON enclosure (location, id);
+
+CREATE INDEX idx_enclosure_size_id ON enclosure (size, id);
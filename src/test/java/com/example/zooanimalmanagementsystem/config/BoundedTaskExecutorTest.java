@@ -0,0 +1,74 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedTaskExecutorTest {
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private final BoundedTaskExecutor executor = new BoundedTaskExecutor(new TaskExecutorAdapter(threads), 2);
+
+    @AfterEach
+    void shutdown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void rejects_tasks_above_limit() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        // then
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(TaskRejectedException.class);
+        release.countDown();
+    }
+
+    @Test
+    void accepts_new_tasks_once_running_ones_finish() throws InterruptedException {
+        // given
+        CountDownLatch finished = new CountDownLatch(2);
+        executor.execute(finished::countDown);
+        executor.execute(finished::countDown);
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        CountDownLatch accepted = new CountDownLatch(1);
+
+        // when
+        retryUntilAccepted(accepted::countDown);
+
+        // then
+        assertThat(accepted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void retryUntilAccepted(Runnable task) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (TaskRejectedException e) {
+                Thread.sleep(10);
+            }
+        }
+        executor.execute(task);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
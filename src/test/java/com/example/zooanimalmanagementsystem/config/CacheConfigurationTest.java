@@ -0,0 +1,113 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import com.example.zooanimalmanagementsystem.repository.AnimalRepository;
+import com.example.zooanimalmanagementsystem.repository.BulkLoadRepository;
+import com.example.zooanimalmanagementsystem.repository.EnclosureRepository;
+import com.example.zooanimalmanagementsystem.repository.NameDictionaries;
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.InputReadingService;
+import com.example.zooanimalmanagementsystem.service.ZooMetrics;
+import com.example.zooanimalmanagementsystem.service.ZooService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+public class CacheConfigurationTest {
+
+    private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
+    private static final UUID ENCLOSURE_ID = UUID.fromString("7c0e1530-3232-4547-854c-68876f4d6fd7");
+
+    @MockBean
+    private EnclosureRepository enclosureRepository;
+
+    @MockBean
+    private AnimalRepository animalRepository;
+
+    @MockBean
+    private BulkLoadRepository bulkLoadRepository;
+
+    @MockBean
+    private NameDictionaries nameDictionaries;
+
+    @MockBean
+    private InputReadingService inputReadingService;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private ZooMetrics zooMetrics;
+
+    @Autowired
+    private ZooService zooService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfiguration.ANIMALS_CACHE).clear();
+    }
+
+    @Test
+    void serves_repeated_animal_lookups_from_cache() {
+        // given
+        AnimalView givenAnimal = new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID);
+        when(animalRepository.findViewById(ID_1)).thenReturn(Optional.of(givenAnimal));
+
+        // when
+        zooService.findAnimalViewById(ID_1);
+        AnimalView actualAnimal = zooService.findAnimalViewById(ID_1);
+
+        // then
+        assertThat(actualAnimal)
+                .isEqualTo(givenAnimal);
+        verify(animalRepository, times(1)).findViewById(ID_1);
+    }
+
+    @Test
+    void evicts_cached_animal_when_it_is_deleted() {
+        // given
+        Animal givenAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
+        when(animalRepository.findByIdForUpdate(ID_1)).thenReturn(Optional.of(givenAnimal));
+        when(animalRepository.findViewById(ID_1)).thenReturn(Optional.of(new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID)));
+        when(animalRepository.removeById(ID_1)).thenReturn(1);
+        zooService.findAnimalViewById(ID_1);
+
+        // when
+        zooService.deleteAnimalById(ID_1);
+        zooService.findAnimalViewById(ID_1);
+
+        // then
+        verify(animalRepository, times(2)).findViewById(ID_1);
+    }
+
+    @Configuration
+    @Import({CacheConfiguration.class, ZooService.class})
+    static class CachedZooServiceConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfiguration.ANIMALS_CACHE);
+        }
+    }
+}
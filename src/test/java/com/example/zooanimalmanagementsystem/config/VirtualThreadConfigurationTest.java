@@ -0,0 +1,81 @@
+package com.example.zooanimalmanagementsystem.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadConfigurationTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class, WebMvcAutoConfiguration.class))
+            .withUserConfiguration(ImportExecutorConfiguration.class, VirtualThreadConfiguration.class);
+
+    @Test
+    void usesPlatformThreadPoolForImportsByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean("importExecutor")).isInstanceOf(ThreadPoolTaskExecutor.class);
+            assertThat(context).doesNotHaveBean(VirtualThreadConfiguration.class);
+        });
+    }
+
+    @Test
+    void keepsPooledExecutorForAsyncRequestsNextToImportPool() {
+        contextRunner.run(context -> {
+            // given
+            RequestMappingHandlerAdapter handlerAdapter = context.getBean(RequestMappingHandlerAdapter.class);
+
+            // when
+            Object asyncExecutor = ReflectionTestUtils.getField(handlerAdapter, "taskExecutor");
+
+            // then
+            assertThat(asyncExecutor)
+                    .isSameAs(context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME))
+                    .isNotSameAs(context.getBean("importExecutor"))
+                    .isInstanceOf(ThreadPoolTaskExecutor.class);
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void runsImportsOnVirtualThreadsWhenEnabled() {
+        contextRunner.withPropertyValues("zoo.threads.virtual=true").run(context -> {
+            // given
+            TaskExecutor importExecutor = context.getBean("importExecutor", TaskExecutor.class);
+            CompletableFuture<String> threadDescription = new CompletableFuture<>();
+
+            // when
+            importExecutor.execute(() -> threadDescription.complete(Thread.currentThread().toString()));
+
+            // then
+            assertThat(context).hasSingleBean(TaskExecutor.class);
+            assertThat(importExecutor).isInstanceOf(BoundedTaskExecutor.class);
+            assertThat(threadDescription.get(5, TimeUnit.SECONDS)).startsWith("VirtualThread");
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void failsToStartWithVirtualThreadsBeforeJava21() {
+        contextRunner.withPropertyValues("zoo.threads.virtual=true").run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context.getStartupFailure())
+                    .rootCause()
+                    .isInstanceOf(NoSuchMethodException.class);
+            assertThat(context.getStartupFailure())
+                    .hasStackTraceContaining("zoo.threads.virtual=true requires Java 21 or newer");
+        });
+    }
+}
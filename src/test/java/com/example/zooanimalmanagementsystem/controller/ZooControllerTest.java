@@ -1,50 +1,91 @@
 package com.example.zooanimalmanagementsystem.controller;
 
+import com.example.zooanimalmanagementsystem.controller.model.BatchUpdateAnimalRequest;
 import com.example.zooanimalmanagementsystem.controller.model.CreateAnimalRequest;
 import com.example.zooanimalmanagementsystem.controller.model.UpdateAnimalRequest;
 import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.ImportJobService;
+import com.example.zooanimalmanagementsystem.service.UploadSpooler;
 import com.example.zooanimalmanagementsystem.service.ZooService;
 import com.example.zooanimalmanagementsystem.service.exception.AnimalNotFoundException;
 import com.example.zooanimalmanagementsystem.service.exception.DataAlreadyStoredException;
 import com.example.zooanimalmanagementsystem.service.exception.EnclosureNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobRejectedException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
 import com.example.zooanimalmanagementsystem.service.exception.InputFileNotAvailableException;
 import com.example.zooanimalmanagementsystem.service.exception.NotEnoughFreeSpaceInEnclosure;
 import com.example.zooanimalmanagementsystem.service.exception.ReadingFromFileFailedException;
+import com.example.zooanimalmanagementsystem.service.model.BatchItemResult;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats.SizeClassStats;
+import com.example.zooanimalmanagementsystem.service.model.ImportJob;
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import com.example.zooanimalmanagementsystem.service.model.ImportValidationError;
+import com.example.zooanimalmanagementsystem.service.model.InputFormat;
+import com.example.zooanimalmanagementsystem.service.model.LoadMethod;
+import com.example.zooanimalmanagementsystem.service.model.PlacementReport;
+import com.example.zooanimalmanagementsystem.service.model.PlacementSimulation;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import com.example.zooanimalmanagementsystem.service.model.SpooledMultipartFile;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatcher;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.blankString;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest
+@Import(UploadSpooler.class)
 public class ZooControllerTest {
 
     private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
@@ -52,11 +93,18 @@ public class ZooControllerTest {
     private static final UUID ENCLOSURE_ID = UUID.fromString("7c0e1530-3232-4547-854c-68876f4d6fd7");
     private static final String ANIMALS_URL = "/v1/zoo/animals";
     private static final String ANIMAL_BY_ID_URL = ANIMALS_URL + "/{animalId}";
+    private static final String ANIMALS_BATCH_URL = ANIMALS_URL + "/batch";
     private static final String DATA_UPLOAD_URL = "/v1/zoo/upload";
+    private static final String IMPORT_JOB_BY_ID_URL = "/v1/zoo/imports/{jobId}";
+    private static final String ENCLOSURES_URL = "/v1/zoo/enclosures";
+    private static final String ENCLOSURE_STATS_URL = ENCLOSURES_URL + "/stats";
 
     @MockBean
     private ZooService zooService;
 
+    @MockBean
+    private ImportJobService importJobService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -65,10 +113,10 @@ public class ZooControllerTest {
     @Test
     void returns_collection_of_animals() throws Exception {
         // given
-        when(zooService.findAllAnimals()).thenReturn(List.of(
-                new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID),
-                new Animal(ID_2, "Giraffe", "Herbivore", 2, ENCLOSURE_ID)
-        ));
+        when(zooService.findAnimals(null, 100)).thenReturn(new SliceImpl<>(List.of(
+                new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID),
+                new AnimalView(ID_2, "Giraffe", Food.HERBIVORE, 2, ENCLOSURE_ID)
+        )));
         String actualResponseBody = mockMvc.perform(get(ANIMALS_URL))
                 .andExpect(status().isOk())
                 .andReturn().getResponse().getContentAsString();
@@ -98,11 +146,102 @@ public class ZooControllerTest {
                 actualResponseBody, true);
     }
 
+    @Test
+    void returns_page_of_animals_with_next_cursor() throws Exception {
+        // given
+        when(zooService.findAnimals(ID_2, 1)).thenReturn(new SliceImpl<>(
+                List.of(new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID)),
+                PageRequest.ofSize(1),
+                true
+        ));
+
+        // when
+        String actualResponseBody = mockMvc.perform(get(ANIMALS_URL)
+                        .param("after", ID_2.toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "animals": [
+                                  {
+                                      "animalId": "6879e088-6a43-4f13-bd57-6bddb54fbd1b",
+                                      "species": "Lion",
+                                      "food": "Carnivore",
+                                      "amount": 3,
+                                      "assignedEnclosureId": "7c0e1530-3232-4547-854c-68876f4d6fd7"
+                                  }
+                              ],
+                              "nextCursor": "6879e088-6a43-4f13-bd57-6bddb54fbd1b"
+                           }
+                        """,
+                actualResponseBody, true);
+    }
+
+    @Test
+    void exports_animals_as_ndjson() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<AnimalView> action = invocation.getArgument(0);
+            action.accept(new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID));
+            action.accept(new AnimalView(ID_2, "Giraffe", Food.HERBIVORE, 2, ENCLOSURE_ID));
+            return null;
+        }).when(zooService).forEachAnimal(any());
+        MvcResult asyncResult = mockMvc.perform(get(ANIMALS_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        String actualResponseBody = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        String[] lines = actualResponseBody.split("\n");
+        assertThat(lines).hasSize(2);
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "animalId": "6879e088-6a43-4f13-bd57-6bddb54fbd1b",
+                              "species": "Lion",
+                              "food": "Carnivore",
+                              "amount": 3,
+                              "assignedEnclosureId": "7c0e1530-3232-4547-854c-68876f4d6fd7"
+                           }
+                        """,
+                lines[0], true);
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "animalId": "2159cfe1-a549-4aa5-8ff6-b8257366c94d",
+                              "species": "Giraffe",
+                              "food": "Herbivore",
+                              "amount": 2,
+                              "assignedEnclosureId": "7c0e1530-3232-4547-854c-68876f4d6fd7"
+                           }
+                        """,
+                lines[1], true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "1001"})
+    void returns_500_response_when_page_limit_is_out_of_range(String limit) throws Exception {
+        // expect
+        mockMvc.perform(get(ANIMALS_URL)
+                        .param("limit", limit))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string(containsString("Page limit should not be")));
+    }
+
     @Test
     void returns_animal_by_id() throws Exception {
         // given
-        when(zooService.findAnimalById(ID_1)).
-                thenReturn(new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID));
+        when(zooService.findAnimalViewById(ID_1)).
+                thenReturn(new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID));
 
         // when
         String actualResponseBody = mockMvc.perform(get(ANIMAL_BY_ID_URL, ID_1))
@@ -127,7 +266,7 @@ public class ZooControllerTest {
     void returns_response_404_when_trying_to_get_non_existing_animal() throws Exception {
         // given
         String message = "Could not find animal by id - " + ID_1;
-        doThrow(new AnimalNotFoundException(message)).when(zooService).findAnimalById(ID_1);
+        doThrow(new AnimalNotFoundException(message)).when(zooService).findAnimalViewById(ID_1);
 
         // then
         mockMvc.perform(get(ANIMAL_BY_ID_URL, ID_1))
@@ -320,6 +459,227 @@ public class ZooControllerTest {
                 .andExpect(content().string(containsString("Request method 'DELETE' is not supported")));
     }
 
+    @Test
+    void returns_filtered_page_of_enclosures_with_next_cursor() throws Exception {
+        // given
+        EnclosureFilter expectedFilter = new EnclosureFilter("Outside", null, 5, List.of("Water Pond", "Trees"));
+        when(zooService.findEnclosures(expectedFilter, ID_2, 1)).thenReturn(new SliceImpl<>(
+                List.of(new Enclosure(ENCLOSURE_ID, "Savanna", "Large", "Outside", List.of("Trees", "Water Pond"), 8, 1, 0)),
+                PageRequest.ofSize(1),
+                true
+        ));
+
+        // when
+        String actualResponseBody = mockMvc.perform(get(ENCLOSURES_URL)
+                        .param("location", "Outside")
+                        .param("freeSpace", "5")
+                        .param("objects", "Water Pond", "Trees")
+                        .param("after", ID_2.toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "enclosures": [
+                                  {
+                                      "enclosureId": "7c0e1530-3232-4547-854c-68876f4d6fd7",
+                                      "name": "Savanna",
+                                      "size": "Large",
+                                      "location": "Outside",
+                                      "objects": ["Trees", "Water Pond"],
+                                      "capacity": 11,
+                                      "freeSpace": 8,
+                                      "carnivoreGroups": 1,
+                                      "herbivoreGroups": 0
+                                  }
+                              ],
+                              "nextCursor": "7c0e1530-3232-4547-854c-68876f4d6fd7"
+                           }
+                        """,
+                actualResponseBody, true);
+    }
+
+    @Test
+    void returns_500_response_when_enclosure_free_space_filter_is_negative() throws Exception {
+        // expect
+        mockMvc.perform(get(ENCLOSURES_URL)
+                        .param("freeSpace", "-1"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string(containsString("Free space should not be less than 0.")));
+    }
+
+    @Test
+    void returns_enclosure_stats() throws Exception {
+        // given
+        when(zooService.getEnclosureStats()).thenReturn(new EnclosureStats(3, 21, 14, 1, 2, List.of(
+                new SizeClassStats("Small", 2, 6, 2),
+                new SizeClassStats("Huge", 1, 15, 12)
+        )));
+
+        // when
+        String actualResponseBody = mockMvc.perform(get(ENCLOSURE_STATS_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                          {
+                              "enclosures": 3,
+                              "totalCapacity": 21,
+                              "freeSpace": 14,
+                              "utilisationPercent": 33.3,
+                              "carnivoreGroups": 1,
+                              "herbivoreGroups": 2,
+                              "sizeClasses": [
+                                  {"size": "Small", "enclosures": 2, "capacity": 6, "freeSpace": 2},
+                                  {"size": "Huge", "enclosures": 1, "capacity": 15, "freeSpace": 12}
+                              ]
+                          }
+                        """,
+                actualResponseBody, true);
+    }
+
+    @Test
+    void returns_simulated_placement() throws Exception {
+        // given
+        List<CreateAnimalRequest> createAnimalRequests = List.of(
+                new CreateAnimalRequest("Lion", "Carnivore", 3),
+                new CreateAnimalRequest("Elephant", "Herbivore", 20)
+        );
+        when(zooService.simulatePlacement(anyList(), eq(PlacementStrategy.BEST_FIT_DECREASING))).thenReturn(new PlacementSimulation(
+                Arrays.asList(ENCLOSURE_ID, null),
+                new PlacementReport(PlacementStrategy.BEST_FIT_DECREASING, 1, 1, 0.3, Duration.ofMillis(1)),
+                21,
+                11
+        ));
+
+        // when
+        String actualResponseBody = mockMvc.perform(post("/v1/zoo/placements/simulate")
+                        .param("placement", "BEST_FIT_DECREASING")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createAnimalRequests)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "strategy": "BEST_FIT_DECREASING",
+                              "placed": 1,
+                              "unplaced": 1,
+                              "utilisationPercent": 47.6,
+                              "assignments": [
+                                 { "index": 0, "species": "Lion", "enclosureId": "7c0e1530-3232-4547-854c-68876f4d6fd7" }
+                              ],
+                              "unplaceable": [
+                                 { "index": 1, "species": "Elephant", "food": "Herbivore", "amount": 20 }
+                              ]
+                           }
+                        """,
+                actualResponseBody, true);
+    }
+
+    @Test
+    void creates_batch_of_animals_with_result_for_each_item() throws Exception {
+        // given
+        List<CreateAnimalRequest> createAnimalRequests = List.of(
+                new CreateAnimalRequest("Lion", "Carnivore", 3),
+                new CreateAnimalRequest("Elephant", "Herbivore", 20)
+        );
+        when(zooService.saveAnimals(anyList())).thenReturn(List.of(
+                BatchItemResult.succeeded(0, new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID)),
+                BatchItemResult.failed(1, "Can`t find suitable enclosure for given animal.")
+        ));
+
+        // when
+        String actualResponseBody = mockMvc.perform(post(ANIMALS_BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createAnimalRequests)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "succeeded": 1,
+                              "failed": 1,
+                              "items": [
+                                 {
+                                    "index": 0,
+                                    "result": {
+                                       "animalId": "6879e088-6a43-4f13-bd57-6bddb54fbd1b",
+                                       "species": "Lion",
+                                       "food": "Carnivore",
+                                       "amount": 3,
+                                       "assignedEnclosureId": "7c0e1530-3232-4547-854c-68876f4d6fd7"
+                                    },
+                                    "error": null
+                                 },
+                                 {
+                                    "index": 1,
+                                    "result": null,
+                                    "error": "Can`t find suitable enclosure for given animal."
+                                 }
+                              ]
+                           }
+                        """,
+                actualResponseBody, true);
+    }
+
+    @Test
+    void deletes_batch_of_animals_with_result_for_each_item() throws Exception {
+        // given
+        String message = "Deletion failed. Could not find animal with id - " + ID_2;
+        when(zooService.deleteAnimalsByIds(List.of(ID_1, ID_2))).thenReturn(List.of(
+                BatchItemResult.succeeded(0, ID_1),
+                BatchItemResult.failed(1, message)
+        ));
+
+        // when
+        String actualResponseBody = mockMvc.perform(delete(ANIMALS_BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(ID_1, ID_2))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "succeeded": 1,
+                              "failed": 1,
+                              "items": [
+                                 { "index": 0, "result": "6879e088-6a43-4f13-bd57-6bddb54fbd1b", "error": null },
+                                 { "index": 1, "result": null, "error": "%s" }
+                              ]
+                           }
+                        """.formatted(message),
+                actualResponseBody, true);
+    }
+
+    @Test
+    void returns_500_response_when_batch_item_validation_is_failed() throws Exception {
+        // given
+        List<BatchUpdateAnimalRequest> updateAnimalRequests = List.of(
+                new BatchUpdateAnimalRequest(ID_1, "Lion", 3),
+                new BatchUpdateAnimalRequest(null, "Lion", 3)
+        );
+
+        // then
+        mockMvc.perform(put(ANIMALS_BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateAnimalRequests)))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string(containsString("Animal id is required.")));
+        verify(zooService, never()).updateAnimals(anyList());
+    }
+
     @ParameterizedTest
     @CsvFileSource(resources = "/file_info.csv", numLinesToSkip = 1)
     void reads_data_from_json_file(String fileName, String urlPart) throws Exception {
@@ -331,7 +691,7 @@ public class ZooControllerTest {
                 new FileInputStream("src/test/resources/" + fileName)
         );
         String message = "Successfully read data from file: " + givenFile.getOriginalFilename();
-        when(zooService.storeAnimals(givenFile)).thenReturn(anyList());
+        when(zooService.storeAnimals(any(MultipartFile.class), eq(PlacementStrategy.IN_ORDER), eq(LoadMethod.BATCH))).thenReturn(new ImportReport(2, Duration.ZERO, Duration.ZERO, Duration.ZERO));
 
         // then
         mockMvc.perform(multipart(DATA_UPLOAD_URL + urlPart)
@@ -340,6 +700,36 @@ public class ZooControllerTest {
                 .andExpect(content().string(containsString(message)));
     }
 
+    @Test
+    void reads_animals_data_from_spooled_request_body() throws Exception {
+        // given
+        String givenBody = """
+                {"species":"Lion","food":"Carnivore","amount":3}
+                {"species":"Giraffe","food":"Herbivore","amount":2}
+                """;
+        List<String> receivedFiles = new ArrayList<>();
+        when(zooService.storeAnimals(any(MultipartFile.class), eq(PlacementStrategy.IN_ORDER), eq(LoadMethod.COPY)))
+                .thenAnswer(invocation -> {
+                    MultipartFile file = invocation.getArgument(0);
+                    receivedFiles.add(file.getOriginalFilename() + ";" + InputFormat.of(file) + ";"
+                            + new String(file.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                    return new ImportReport(2, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+                });
+
+        // when
+        mockMvc.perform(post(DATA_UPLOAD_URL + "/animals")
+                        .contentType("application/x-ndjson")
+                        .param("filename", "animals.ndjson")
+                        .param("load", "COPY")
+                        .content(givenBody.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Successfully read data from request body")));
+
+        // then
+        assertThat(receivedFiles)
+                .containsExactly("animals.ndjson;NDJSON;" + givenBody);
+    }
+
     @Test
     void returns_404_response_when_enclosures_is_file_not_provided_or_empty() throws Exception {
         // given
@@ -350,7 +740,7 @@ public class ZooControllerTest {
                 (byte[]) null
         );
         String message = "Can`t read data. File is either not uploaded or empty.";
-        doThrow(new InputFileNotAvailableException(message)).when(zooService).storeEnclosures(givenFile);
+        doThrow(new InputFileNotAvailableException(message)).when(zooService).storeEnclosures(givenFile, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/enclosures")
@@ -369,7 +759,7 @@ public class ZooControllerTest {
                 new FileInputStream("src/test/resources/enclosures_test_data.json")
         );
         String message = "File reading cancelled. Enclosures are already stored in database.";
-        doThrow(new DataAlreadyStoredException(message)).when(zooService).storeEnclosures(givenFile);
+        doThrow(new DataAlreadyStoredException(message)).when(zooService).storeEnclosures(givenFile, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/enclosures")
@@ -388,7 +778,7 @@ public class ZooControllerTest {
                 new FileInputStream("src/test/resources/incorrect_format.txt")
         );
         String message = "Can`t read data from file. Make sure file has correct format";
-        doThrow(new ReadingFromFileFailedException(message)).when(zooService).storeEnclosures(givenFile);
+        doThrow(new ReadingFromFileFailedException(message)).when(zooService).storeEnclosures(givenFile, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/enclosures")
@@ -407,7 +797,7 @@ public class ZooControllerTest {
                 (byte[]) null
         );
         String message = "File reading cancelled. Please store enclosures before proceeding with animals.";
-        doThrow(new EnclosureNotFoundException(message)).when(zooService).storeAnimals(givenFile);
+        doThrow(new EnclosureNotFoundException(message)).when(zooService).storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/animals")
@@ -426,7 +816,7 @@ public class ZooControllerTest {
                 (byte[]) null
         );
         String message = "Can`t read data. File is either not uploaded or empty.";
-        doThrow(new InputFileNotAvailableException(message)).when(zooService).storeAnimals(givenFile);
+        doThrow(new InputFileNotAvailableException(message)).when(zooService).storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/animals")
@@ -445,7 +835,7 @@ public class ZooControllerTest {
                 new FileInputStream("src/test/resources/animals_test_data.json")
         );
         String message = "File reading cancelled. Given animals are already stored in database.";
-        doThrow(new DataAlreadyStoredException(message)).when(zooService).storeAnimals(givenFile);
+        doThrow(new DataAlreadyStoredException(message)).when(zooService).storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/animals")
@@ -464,7 +854,7 @@ public class ZooControllerTest {
                 new FileInputStream("src/test/resources/incorrect_format.txt")
         );
         String message = "Can`t read data from file. Make sure file has correct format";
-        doThrow(new ReadingFromFileFailedException(message)).when(zooService).storeAnimals(givenFile);
+        doThrow(new ReadingFromFileFailedException(message)).when(zooService).storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
 
         // then
         mockMvc.perform(multipart("/v1/zoo/upload/animals")
@@ -473,9 +863,190 @@ public class ZooControllerTest {
                 .andExpect(content().string(containsString(message)));
     }
 
+    @Test
+    void returns_400_response_when_animals_file_has_invalid_records() throws Exception {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        ImportValidationException givenException = new ImportValidationException(
+                List.of(new ImportValidationError(1, "Animal amount should not be less than 1.")), 1, 2);
+        doThrow(givenException).when(zooService).storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
+
+        // then
+        mockMvc.perform(multipart("/v1/zoo/upload/animals")
+                        .file(givenFile))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString(
+                        "Found 1 invalid records: record 1: Animal amount should not be less than 1.")));
+    }
+
+    @Test
+    void returns_listed_validation_errors_with_total_count_in_400_response() throws Exception {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        ImportValidationException givenException = new ImportValidationException(List.of(
+                new ImportValidationError(1, "Animal amount should not be less than 1."),
+                new ImportValidationError(4, "Unknown food - Minerals.")
+        ), 25, 40);
+        doThrow(givenException).when(zooService).storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
+
+        // then
+        mockMvc.perform(multipart("/v1/zoo/upload/animals")
+                        .file(givenFile))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.httpStatus").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.errorCount").value(25))
+                .andExpect(jsonPath("$.errors.length()").value(2))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Animal amount should not be less than 1."))
+                .andExpect(jsonPath("$.errors[1].index").value(4))
+                .andExpect(jsonPath("$.errors[1].message").value("Unknown food - Minerals."));
+    }
+
+    @Test
+    void accepts_animals_file_for_asynchronous_import() throws Exception {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        when(importJobService.submitAnimalsImport(any(MultipartFile.class), eq(PlacementStrategy.IN_ORDER), eq(LoadMethod.BATCH)))
+                .thenReturn(new ImportJob(ID_1, "animals", "animals_test_data.json"));
+
+        // when
+        String actualResponseBody = mockMvc.perform(multipart(DATA_UPLOAD_URL + "/animals")
+                        .file(givenFile)
+                        .param("mode", "async"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "jobId": "6879e088-6a43-4f13-bd57-6bddb54fbd1b",
+                              "dataType": "animals",
+                              "fileName": "animals_test_data.json",
+                              "status": "QUEUED",
+                              "recordsProcessed": 0,
+                              "recordsFailed": 0
+                           }
+                        """,
+                actualResponseBody, false);
+        verify(zooService, never()).storeAnimals(any(MultipartFile.class), any(PlacementStrategy.class), any(LoadMethod.class));
+    }
+
+    @Test
+    void accepts_raw_request_body_for_asynchronous_import() throws Exception {
+        // given
+        byte[] givenBody = "name,size,location,objects\nTest Enclosure 1,Large,Outside,Pool\n".getBytes(StandardCharsets.UTF_8);
+        List<String> receivedFiles = new ArrayList<>();
+        when(importJobService.submitEnclosuresImport(any(MultipartFile.class), eq(LoadMethod.BATCH)))
+                .thenAnswer(invocation -> {
+                    SpooledMultipartFile file = invocation.getArgument(0);
+                    receivedFiles.add(file.getOriginalFilename() + ";" + InputFormat.of(file) + ";" + file.getSize());
+                    file.delete();
+                    return new ImportJob(ID_1, "enclosures", file.getOriginalFilename());
+                });
+
+        // when
+        mockMvc.perform(post(DATA_UPLOAD_URL + "/enclosures")
+                        .contentType("text/csv")
+                        .param("mode", "async")
+                        .param("filename", "enclosures.csv")
+                        .content(givenBody))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(containsString("\"jobId\":\"6879e088-6a43-4f13-bd57-6bddb54fbd1b\"")));
+
+        // then
+        assertThat(receivedFiles)
+                .containsExactly("enclosures.csv;CSV;" + givenBody.length);
+    }
+
+    @Test
+    void returns_415_response_when_upload_content_type_is_not_supported() throws Exception {
+        // then
+        mockMvc.perform(post(DATA_UPLOAD_URL + "/animals")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .param("mode", "async")
+                        .content("Lion"))
+                .andExpect(status().isUnsupportedMediaType());
+        verify(importJobService, never()).submitAnimalsImport(any(), any(), any());
+    }
+
+    @Test
+    void returns_import_job_progress() throws Exception {
+        // given
+        ImportJob givenJob = new ImportJob(ID_1, "enclosures", "enclosures_test_data.json");
+        givenJob.start();
+        givenJob.recordsProcessed(2);
+        givenJob.complete();
+        when(importJobService.findJobById(ID_1)).thenReturn(givenJob);
+
+        // when
+        String actualResponseBody = mockMvc.perform(get(IMPORT_JOB_BY_ID_URL, ID_1))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        JSONAssert.assertEquals(
+                """
+                           {
+                              "jobId": "6879e088-6a43-4f13-bd57-6bddb54fbd1b",
+                              "status": "COMPLETED",
+                              "recordsProcessed": 2,
+                              "recordsFailed": 0
+                           }
+                        """,
+                actualResponseBody, false);
+    }
+
+    @Test
+    void returns_404_response_when_import_job_does_not_exist() throws Exception {
+        // given
+        String message = "Could not find import job with id - " + ID_1;
+        doThrow(new ImportJobNotFoundException(message)).when(importJobService).findJobById(ID_1);
+
+        // then
+        mockMvc.perform(get(IMPORT_JOB_BY_ID_URL, ID_1))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(containsString(message)));
+    }
+
+    @Test
+    void returns_503_response_when_import_queue_is_full() throws Exception {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "enclosures_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/enclosures_test_data.json")
+        );
+        String message = "Import queue is full. Please try again later.";
+        doThrow(new ImportJobRejectedException(message)).when(importJobService).submitEnclosuresImport(any(MultipartFile.class), eq(LoadMethod.BATCH));
+
+        // then
+        mockMvc.perform(multipart(DATA_UPLOAD_URL + "/enclosures")
+                        .file(givenFile)
+                        .param("mode", "async"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string(containsString(message)));
+    }
+
     private ArgumentMatcher<Animal> matchCreateAnimalRequestToEntity(CreateAnimalRequest createAnimalRequest) {
         return animal -> animal.getSpecies().equals(createAnimalRequest.species()) &&
-                         animal.getFood().equals(createAnimalRequest.food()) &&
+                         animal.getFood() == Food.fromLabel(createAnimalRequest.food()).orElse(null) &&
                          animal.getAmount() == createAnimalRequest.amount();
     }
 
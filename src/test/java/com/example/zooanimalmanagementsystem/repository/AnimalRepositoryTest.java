@@ -1,23 +1,33 @@
 package com.example.zooanimalmanagementsystem.repository;
 
 import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(NameDictionaries.class)
 public class AnimalRepositoryTest {
 
     private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
     private static final UUID ID_2 = UUID.fromString("2159cfe1-a549-4aa5-8ff6-b8257366c94d");
+    private static final UUID ID_3 = UUID.fromString("9a8bd6cb-0e7e-4d3c-a0c4-0e5b7f4c9a11");
     private static final UUID ENCLOSURE_ID = UUID.fromString("7c0e1530-3232-4547-854c-68876f4d6fd7");
 
     @Autowired
@@ -40,6 +50,26 @@ public class AnimalRepositoryTest {
                 .containsExactly(ID_1, ID_2);
     }
 
+    @Test
+    void streams_all_animals() {
+        // given
+        animalRepository.saveAll(List.of(
+                new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID),
+                new Animal(ID_2, "Giraffe", "Herbivore", 2, ENCLOSURE_ID))
+        );
+
+        // when
+        List<AnimalView> actualAnimals;
+        try (Stream<AnimalView> animals = animalRepository.streamViews()) {
+            actualAnimals = animals.toList();
+        }
+
+        // then
+        assertThat(actualAnimals)
+                .extracting("id")
+                .containsExactlyInAnyOrder(ID_1, ID_2);
+    }
+
     @Test
     void returns_animal_by_id() {
         // given
@@ -56,6 +86,41 @@ public class AnimalRepositoryTest {
                 .isEqualTo(ID_1);
     }
 
+    @Test
+    void returns_animals_page_after_given_id() {
+        // given
+        animalRepository.saveAll(List.of(
+                new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID),
+                new Animal(ID_2, "Giraffe", "Herbivore", 2, ENCLOSURE_ID),
+                new Animal(ID_3, "Zebra", "Herbivore", 4, ENCLOSURE_ID))
+        );
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("id"));
+
+        // when
+        Slice<AnimalView> firstPage = animalRepository.findViews(pageable);
+        Slice<AnimalView> secondPage = animalRepository.findViewsByIdGreaterThan(firstPage.getContent().get(0).id(), pageable);
+
+        // then
+        assertThat(firstPage.hasNext())
+                .isTrue();
+        assertThat(secondPage)
+                .extracting("id")
+                .containsExactly(ID_3);
+    }
+
+    @Test
+    void returns_animal_view_by_id() {
+        // given
+        animalRepository.save(new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID));
+
+        // when
+        Optional<AnimalView> actualAnimal = animalRepository.findViewById(ID_1);
+
+        // then
+        assertThat(actualAnimal)
+                .contains(new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID));
+    }
+
     @Test
     void saves_animal() {
         // when
@@ -66,6 +131,21 @@ public class AnimalRepositoryTest {
                 .isEqualTo(ID_1);
     }
 
+    @Test
+    void persists_new_animal_instead_of_merging_it() {
+        // given
+        Animal givenAnimal = new Animal("Lion", "Carnivore", 3);
+
+        // when
+        Animal savedAnimal = animalRepository.saveAndFlush(givenAnimal);
+
+        // then
+        assertThat(savedAnimal)
+                .isSameAs(givenAnimal);
+        assertThat(savedAnimal.isNew())
+                .isFalse();
+    }
+
     @Test
     void deletes_animal_by_id() {
         // given
@@ -0,0 +1,102 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BulkLoadRepository.class, NameDictionaries.class})
+public class BulkLoadRepositoryTest {
+
+    private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
+    private static final UUID ID_2 = UUID.fromString("2159cfe1-a549-4aa5-8ff6-b8257366c94d");
+    private static final UUID ENCLOSURE_ID = UUID.fromString("7c0e1530-3232-4547-854c-68876f4d6fd7");
+
+    @Autowired
+    private BulkLoadRepository bulkLoadRepository;
+
+    @Autowired
+    private EnclosureRepository enclosureRepository;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void copies_enclosures_with_quoted_names_and_objects() {
+        // given
+        List<Enclosure> givenEnclosures = List.of(
+                new Enclosure(ID_1, "Lions, \"Big\" Cats", "Large", "Outside", List.of("Water, Pond", "Rocks \"A\""), 11, 0, 0),
+                new Enclosure(ID_2, "Empty", "Small", "Inside", List.of(), 3, 0, 0)
+        );
+
+        // when
+        int loadedRows;
+        try (BulkLoad<Enclosure> load = bulkLoadRepository.loadEnclosures()) {
+            load.write(givenEnclosures);
+            loadedRows = load.finish();
+        }
+
+        // then
+        entityManager.clear();
+        Enclosure actualEnclosure = enclosureRepository.findById(ID_1).get();
+        assertThat(loadedRows)
+                .isEqualTo(2);
+        assertThat(actualEnclosure.getName())
+                .isEqualTo("Lions, \"Big\" Cats");
+        assertThat(actualEnclosure.getObjects())
+                .containsExactly("Water, Pond", "Rocks \"A\"");
+        assertThat(enclosureRepository.findById(ID_2).get().getObjects())
+                .isEmpty();
+    }
+
+    @Test
+    void copies_animals_and_updates_enclosure_counters() {
+        // given
+        enclosureRepository.saveAndFlush(new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 11, 0, 0));
+        Enclosure placedEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 6, 1, 1);
+
+        // when
+        try (BulkLoad<Animal> load = bulkLoadRepository.loadAnimals()) {
+            load.write(List.of(
+                    new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID),
+                    new Animal(ID_2, "Giraffe", "Herbivore", 2, ENCLOSURE_ID)
+            ));
+            load.finish();
+        }
+        int updatedRows = bulkLoadRepository.updateEnclosureCounters(List.of(placedEnclosure));
+
+        // then
+        entityManager.clear();
+        Animal actualAnimal = animalRepository.findById(ID_1).get();
+        Enclosure actualEnclosure = enclosureRepository.findById(ENCLOSURE_ID).get();
+        assertThat(updatedRows)
+                .isEqualTo(1);
+        assertThat(actualAnimal.getSpecies())
+                .isEqualTo("Lion");
+        assertThat(actualAnimal.getFood())
+                .isEqualTo(Food.CARNIVORE);
+        assertThat(animalRepository.count())
+                .isEqualTo(2);
+        assertThat(actualEnclosure.getFreeSpace())
+                .isEqualTo(6);
+        assertThat(actualEnclosure.getCarnivoreGroups())
+                .isEqualTo(1);
+    }
+}
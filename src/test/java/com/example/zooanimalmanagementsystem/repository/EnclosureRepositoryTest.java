@@ -1,9 +1,13 @@
 package com.example.zooanimalmanagementsystem.repository;
 
 import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -14,14 +18,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(NameDictionaries.class)
 public class EnclosureRepositoryTest {
 
     private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
     private static final UUID ID_2 = UUID.fromString("2159cfe1-a549-4aa5-8ff6-b8257366c94d");
+    private static final UUID ID_3 = UUID.fromString("7c0e1530-3232-4547-854c-68876f4d6fd7");
 
     @Autowired
     private EnclosureRepository enclosureRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void returns_collection_of_enclosures() {
         // given
@@ -84,6 +93,68 @@ public class EnclosureRepositoryTest {
                 .isEqualTo(ID_1);
     }
 
+    @Test
+    void stores_enclosure_objects_as_dictionary_ids() {
+        // given
+        enclosureRepository.saveAndFlush(
+                new Enclosure(ID_1, "Test Enclosure 1", "Medium", "Outside", List.of("Trees", "Pool", "Trees"))
+        );
+        entityManager.clear();
+
+        // when
+        Optional<Enclosure> actualEnclosure = enclosureRepository.findById(ID_1);
+
+        // then
+        assertThat(actualEnclosure)
+                .get()
+                .extracting(Enclosure::getObjects)
+                .isEqualTo(List.of("Trees", "Pool", "Trees"));
+    }
+
+    @Test
+    void finds_enclosures_matching_filter_page_by_page() {
+        // given
+        enclosureRepository.saveAllAndFlush(List.of(
+                new Enclosure(ID_1, "Test Enclosure 1", "Large", "Outside", List.of("Water Pond", "Trees"), 8, 0, 1),
+                new Enclosure(ID_2, "Test Enclosure 2", "Huge", "Outside", List.of("Trees", "Water Pond", "Rocks"), 6, 0, 1),
+                new Enclosure(ID_3, "Test Enclosure 3", "Huge", "Outside", List.of("Trees"), 15, 0, 0)
+        ));
+        entityManager.clear();
+        EnclosureFilter filter = new EnclosureFilter("Outside", null, 5, List.of("Water Pond"));
+
+        // when
+        Slice<Enclosure> firstPage = enclosureRepository.findByFilter(filter, null, 1);
+        Slice<Enclosure> secondPage = enclosureRepository.findByFilter(filter, ID_2, 1);
+
+        // then
+        assertThat(firstPage.getContent())
+                .extracting("id")
+                .containsExactly(ID_2);
+        assertThat(firstPage.hasNext())
+                .isTrue();
+        assertThat(secondPage.getContent())
+                .extracting("id")
+                .containsExactly(ID_1);
+        assertThat(secondPage.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void finds_no_enclosures_when_filtered_object_is_unknown() {
+        // given
+        enclosureRepository.saveAndFlush(
+                new Enclosure(ID_1, "Test Enclosure 1", "Large", "Outside", List.of("Trees"), 8, 0, 1)
+        );
+
+        // when
+        Slice<Enclosure> actualEnclosures = enclosureRepository.findByFilter(
+                new EnclosureFilter(null, null, null, List.of("Volcano")), null, 10);
+
+        // then
+        assertThat(actualEnclosures)
+                .isEmpty();
+    }
+
     @Test
     void counts_number_of_enclosures_in_repository() {
         //given
@@ -100,4 +171,127 @@ public class EnclosureRepositoryTest {
         assertThat(actualNumberOfEnclosuresInRepository)
                 .isEqualTo(2L);
     }
+
+    @Test
+    void locks_requested_enclosures_in_id_order() {
+        // given
+        enclosureRepository.saveAllAndFlush(List.of(
+                new Enclosure(ID_1, "Test Enclosure 1", "Medium", "Outside", List.of("Pool", "Rocks", "Trees")),
+                new Enclosure(ID_2, "Test Enclosure 2", "Large", "Inside", List.of("Pool", "Rocks", "Trees"))
+        ));
+        entityManager.clear();
+
+        // when
+        List<Enclosure> actualEnclosures = enclosureRepository.findAllByIdForUpdate(List.of(ID_1, ID_2));
+
+        // then
+        assertThat(actualEnclosures)
+                .extracting("id")
+                .containsExactly(ID_2, ID_1);
+    }
+
+    @Test
+    void reserves_space_for_animal_when_enclosure_has_enough_free_space() {
+        // given
+        enclosureRepository.saveAndFlush(new Enclosure(
+                ID_1, "Test Enclosure 1", "Medium", "Outside", List.of("Pool"), 7, 0, 0));
+
+        // when
+        int updatedRows = enclosureRepository.reserveSpaceForAnimal(ID_1, 3, true);
+
+        // then
+        entityManager.clear();
+        Enclosure actualEnclosure = enclosureRepository.findById(ID_1).get();
+        assertThat(updatedRows)
+                .isEqualTo(1);
+        assertThat(actualEnclosure.getFreeSpace())
+                .isEqualTo(4);
+        assertThat(actualEnclosure.getCarnivoreGroups())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void reads_reserved_space_of_previously_loaded_enclosure() {
+        // given
+        enclosureRepository.saveAndFlush(new Enclosure(
+                ID_1, "Test Enclosure 1", "Medium", "Outside", List.of("Pool"), 7, 0, 0));
+        enclosureRepository.findById(ID_1);
+
+        // when
+        enclosureRepository.reserveSpaceForAnimal(ID_1, 3, false);
+
+        // then
+        Enclosure actualEnclosure = enclosureRepository.findById(ID_1).get();
+        assertThat(actualEnclosure.getFreeSpace())
+                .isEqualTo(4);
+        assertThat(actualEnclosure.getHerbivoreGroups())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void does_not_reserve_space_for_animal_when_enclosure_is_too_small() {
+        // given
+        enclosureRepository.saveAndFlush(new Enclosure(
+                ID_1, "Test Enclosure 1", "Small", "Outside", List.of("Pool"), 2, 0, 1));
+
+        // when
+        int updatedRows = enclosureRepository.reserveSpaceForAnimal(ID_1, 3, false);
+
+        // then
+        assertThat(updatedRows)
+                .isZero();
+    }
+
+    @Test
+    void does_not_reserve_space_for_third_carnivore() {
+        // given
+        enclosureRepository.saveAndFlush(new Enclosure(
+                ID_1, "Test Enclosure 1", "Huge", "Outside", List.of("Pool"), 10, 2, 0));
+
+        // when
+        int updatedRows = enclosureRepository.reserveSpaceForAnimal(ID_1, 1, true);
+
+        // then
+        assertThat(updatedRows)
+                .isZero();
+    }
+
+    @Test
+    void releases_space_of_animal() {
+        // given
+        enclosureRepository.saveAndFlush(new Enclosure(
+                ID_1, "Test Enclosure 1", "Medium", "Outside", List.of("Pool"), 2, 1, 1));
+
+        // when
+        enclosureRepository.releaseSpaceOfAnimal(ID_1, 3, true);
+
+        // then
+        entityManager.clear();
+        Enclosure actualEnclosure = enclosureRepository.findById(ID_1).get();
+        assertThat(actualEnclosure.getFreeSpace())
+                .isEqualTo(5);
+        assertThat(actualEnclosure.getCarnivoreGroups())
+                .isZero();
+        assertThat(actualEnclosure.getHerbivoreGroups())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void finds_id_of_enclosure_with_smallest_sufficient_free_space() {
+        // given
+        enclosureRepository.saveAllAndFlush(List.of(
+                new Enclosure(ID_1, "Test Enclosure 1", "Huge", "Outside", List.of("Pool"), 10, 0, 0),
+                new Enclosure(ID_2, "Test Enclosure 2", "Medium", "Outside", List.of("Pool"), 5, 2, 0)
+        ));
+
+        // when
+        Optional<UUID> herbivoreEnclosureId = enclosureRepository.findBestFitIdForHerbivores(4);
+        Optional<UUID> carnivoreEnclosureId = enclosureRepository.findBestFitIdForCarnivores(4);
+
+        // then
+        assertThat(herbivoreEnclosureId)
+                .contains(ID_2);
+        assertThat(carnivoreEnclosureId)
+                .contains(ID_1);
+    }
 }
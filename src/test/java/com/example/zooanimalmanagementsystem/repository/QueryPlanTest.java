@@ -0,0 +1,69 @@
+package com.example.zooanimalmanagementsystem.repository;
+
+import com.example.zooanimalmanagementsystem.repository.EnclosureSearchRepositoryImpl.SearchQuery;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NameDictionaries.class)
+public class QueryPlanTest {
+
+    private static final int ENCLOSURES = 50_000;
+    private static final UUID AFTER = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void fillTables() {
+        jdbcTemplate.update("""
+                INSERT INTO enclosure (id, name, size, location, object_ids, free_space, carnivore_groups, herbivore_groups)
+                SELECT gen_random_uuid(), 'Enclosure ' || i, 'Huge', 'Location ' || i % 100, ARRAY[i % 500, 500 + i % 7], i % 16, i % 3, i % 4
+                FROM generate_series(1, ?) AS i
+                """, ENCLOSURES);
+        jdbcTemplate.execute("ANALYZE enclosure");
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        SearchQuery byObject = EnclosureSearchRepositoryImpl.searchQuery(
+                new EnclosureFilter(null, null, null, List.of("Object 42")), List.of(42), AFTER, 100);
+        SearchQuery byLocation = EnclosureSearchRepositoryImpl.searchQuery(
+                new EnclosureFilter("Location 42", null, null, null), List.of(), AFTER, 100);
+
+        return Stream.of(
+                Arguments.of(EnclosureRepository.BEST_FIT_ID_FOR_HERBIVORES, Map.of("amount", 15), "idx_enclosure_free_space"),
+                Arguments.of(EnclosureRepository.BEST_FIT_ID_FOR_CARNIVORES, Map.of("amount", 15), "idx_enclosure_carnivore_free_space"),
+                Arguments.of(byObject.sql(), byObject.parameters(), "idx_enclosure_object_ids"),
+                Arguments.of(byLocation.sql(), byLocation.parameters(), "idx_enclosure_location_id")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositoryQueries")
+    void uses_index_for_repository_query(String query, Map<String, Object> parameters, String expectedIndex) {
+        // when
+        List<String> plan = new NamedParameterJdbcTemplate(jdbcTemplate)
+                .queryForList("EXPLAIN " + query, parameters, String.class);
+
+        // then
+        assertThat(String.join("\n", plan))
+                .contains(expectedIndex);
+    }
+}
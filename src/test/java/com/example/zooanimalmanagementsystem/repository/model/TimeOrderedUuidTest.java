@@ -0,0 +1,44 @@
+package com.example.zooanimalmanagementsystem.repository.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeOrderedUuidTest {
+
+    @Test
+    void generates_version_7_uuid_with_current_timestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID actualUuid = TimeOrderedUuid.generate();
+
+        // then
+        assertThat(actualUuid.version())
+                .isEqualTo(7);
+        assertThat(actualUuid.variant())
+                .isEqualTo(2);
+        assertThat(actualUuid.getMostSignificantBits() >>> 16)
+                .isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void generates_strictly_increasing_uuids() {
+        // when
+        List<UUID> actualUuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            actualUuids.add(TimeOrderedUuid.generate());
+        }
+
+        // then
+        assertThat(actualUuids)
+                .isSortedAccordingTo(Comparator.comparing(UUID::toString))
+                .doesNotHaveDuplicates();
+    }
+}
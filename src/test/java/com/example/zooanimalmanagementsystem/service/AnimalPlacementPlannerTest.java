@@ -0,0 +1,85 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.service.AnimalPlacementPlanner.PlacementPlan;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnimalPlacementPlannerTest {
+
+    private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
+    private static final UUID ID_2 = UUID.fromString("2159cfe1-a549-4aa5-8ff6-b8257366c94d");
+
+    private final AnimalPlacementPlanner placementPlanner = new AnimalPlacementPlanner();
+
+    @Test
+    void places_animals_that_do_not_fit_in_file_order_when_sorted_by_decreasing_amount() {
+        // given
+        List<Animal> animals = List.of(
+                new Animal("Zebra", "Herbivore", 2),
+                new Animal("Giraffe", "Herbivore", 3),
+                new Animal("Elephant", "Herbivore", 4)
+        );
+        List<Enclosure> enclosures = List.of(enclosure(ID_1, 5, 0), enclosure(ID_2, 4, 0));
+
+        // when
+        PlacementPlan inOrder = placementPlanner.plan(animals, enclosures, PlacementStrategy.IN_ORDER);
+        PlacementPlan bestFitDecreasing = placementPlanner.plan(animals, enclosures, PlacementStrategy.BEST_FIT_DECREASING);
+
+        // then
+        assertThat(inOrder.isComplete())
+                .isFalse();
+        assertThat(inOrder.report().utilisation())
+                .isEqualTo(5 / 9.0);
+        assertThat(bestFitDecreasing.enclosureIds())
+                .containsExactly(ID_1, ID_1, ID_2);
+        assertThat(bestFitDecreasing.report().utilisation())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void does_not_place_third_carnivore_group_in_enclosure() {
+        // given
+        List<Animal> animals = List.of(
+                new Animal("Lion", "Carnivore", 1),
+                new Animal("Tiger", "Carnivore", 1),
+                new Animal("Wolf", "Carnivore", 1)
+        );
+
+        // when
+        PlacementPlan plan = placementPlanner.plan(
+                animals, List.of(enclosure(ID_1, 11, 0)), PlacementStrategy.BEST_FIT_DECREASING);
+
+        // then
+        assertThat(plan.enclosureIds())
+                .containsExactly(ID_1, ID_1, null);
+        assertThat(plan.report().unplaced())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void does_not_modify_given_enclosures() {
+        // given
+        Enclosure givenEnclosure = enclosure(ID_1, 11, 0);
+
+        // when
+        placementPlanner.plan(
+                List.of(new Animal("Lion", "Carnivore", 3)), List.of(givenEnclosure), PlacementStrategy.IN_ORDER);
+
+        // then
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(11);
+        assertThat(givenEnclosure.getCarnivoreGroups())
+                .isZero();
+    }
+
+    private Enclosure enclosure(UUID id, int freeSpace, int carnivoreGroups) {
+        return new Enclosure(id, "Test Enclosure", "Large", "Inside", List.of("Pool"), freeSpace, carnivoreGroups, 0);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
+import com.example.zooanimalmanagementsystem.service.EnclosurePlacementIndex.UndoLog;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureCapacity;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureStats.SizeClassStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class EnclosurePlacementIndexTest {
+
+    private static final UUID ID_1 = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
+    private static final UUID ID_2 = UUID.fromString("2159cfe1-a549-4aa5-8ff6-b8257366c94d");
+    private static final UUID ID_3 = UUID.fromString("7c0e1530-3232-4547-854c-68876f4d6fd7");
+
+    private final EnclosurePlacementIndex placementIndex = new EnclosurePlacementIndex();
+
+    @Test
+    void finds_enclosure_with_smallest_sufficient_free_space() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 0),
+                enclosure(ID_2, 3, 0),
+                enclosure(ID_3, 7, 0)
+        ));
+
+        // then
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 4, Set.of()))
+                .contains(ID_3);
+    }
+
+    @Test
+    void skips_enclosures_with_two_carnivores_for_carnivore() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 1),
+                enclosure(ID_2, 7, 2)
+        ));
+
+        // then
+        assertThat(placementIndex.findCandidate(Food.CARNIVORE, 3, Set.of()))
+                .contains(ID_1);
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 3, Set.of()))
+                .contains(ID_2);
+    }
+
+    @Test
+    void skips_excluded_enclosures() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 0),
+                enclosure(ID_2, 3, 0)
+        ));
+
+        // then
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 2, Set.of(ID_2)))
+                .contains(ID_1);
+    }
+
+    @Test
+    void returns_empty_result_when_no_enclosure_has_enough_free_space() {
+        // given
+        placementIndex.load(List.of(enclosure(ID_1, 3, 0)));
+
+        // then
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 4, Set.of()))
+                .isEmpty();
+    }
+
+    @Test
+    void moves_enclosure_to_new_bucket_when_updated() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 0),
+                enclosure(ID_2, 7, 0)
+        ));
+
+        // when
+        placementIndex.put(enclosure(ID_2, 1, 0));
+
+        // then
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 5, Set.of()))
+                .contains(ID_1);
+        assertThat(placementIndex.size())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void loads_enclosures_only_once() {
+        // given
+        placementIndex.loadIfNeeded(() -> List.of(enclosure(ID_1, 11, 0)));
+
+        // when
+        placementIndex.loadIfNeeded(() -> List.of(enclosure(ID_2, 11, 0)));
+
+        // then
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 1, Set.of()))
+                .contains(ID_1);
+    }
+
+    @Test
+    void keeps_total_capacity_and_free_space_up_to_date() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 0),
+                enclosure(ID_2, 7, 0)
+        ));
+
+        // when
+        placementIndex.put(enclosure(ID_2, 4, 0));
+        placementIndex.remove(ID_1);
+
+        // then
+        assertThat(placementIndex.capacity())
+                .isEqualTo(new EnclosureCapacity(11, 4));
+    }
+
+    @Test
+    void keeps_occupancy_stats_per_size_class_up_to_date() {
+        // given
+        placementIndex.load(List.of(
+                new Enclosure(ID_1, "Test Enclosure 1", "Huge", "Outside", List.of("Pool"), 15, 0, 0),
+                new Enclosure(ID_2, "Test Enclosure 2", "Small", "Inside", List.of("Pool"), 3, 0, 0),
+                new Enclosure(ID_3, "Test Enclosure 3", "Small", "Inside", List.of("Pool"), 3, 0, 0)
+        ));
+
+        // when
+        placementIndex.put(new Enclosure(ID_1, "Test Enclosure 1", "Huge", "Outside", List.of("Pool"), 9, 1, 1));
+        placementIndex.remove(ID_3);
+
+        // then
+        EnclosureStats actualStats = placementIndex.stats();
+        assertThat(actualStats)
+                .isEqualTo(new EnclosureStats(2, 18, 12, 1, 1, List.of(
+                        new SizeClassStats("Small", 1, 3, 3),
+                        new SizeClassStats("Huge", 1, 15, 9)
+                )));
+        assertThat(actualStats.utilisation())
+                .isEqualTo(6 / 18.0);
+    }
+
+    @Test
+    void copies_enclosures_in_order_they_were_last_put() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 0),
+                enclosure(ID_2, 7, 1),
+                enclosure(ID_3, 9, 0)
+        ));
+        placementIndex.put(enclosure(ID_1, 4, 1));
+
+        // when
+        List<Enclosure> snapshot = placementIndex.snapshot();
+
+        // then
+        assertThat(snapshot)
+                .extracting(Enclosure::getId, Enclosure::getSize, Enclosure::getFreeSpace, Enclosure::getCarnivoreGroups)
+                .containsExactly(
+                        tuple(ID_2, "Large", 7, 1),
+                        tuple(ID_3, "Large", 9, 0),
+                        tuple(ID_1, "Large", 4, 1)
+                );
+    }
+
+    @Test
+    void discards_enclosures_read_while_index_was_updated() {
+        // given
+        List<List<Enclosure>> reads = new ArrayList<>(List.of(
+                List.of(enclosure(ID_1, 11, 0)),
+                List.of(enclosure(ID_1, 4, 0))
+        ));
+
+        // when
+        placementIndex.loadIfNeeded(() -> {
+            if (reads.size() == 2) {
+                placementIndex.put(enclosure(ID_1, 4, 0));
+            }
+            return reads.remove(0);
+        });
+
+        // then
+        assertThat(reads).isEmpty();
+        assertThat(placementIndex.findCandidate(Food.HERBIVORE, 5, Set.of())).isEmpty();
+        assertThat(placementIndex.capacity().free()).isEqualTo(4);
+    }
+
+    @Test
+    void restores_only_slots_changed_through_undo_log() {
+        // given
+        placementIndex.load(List.of(
+                enclosure(ID_1, 11, 0),
+                enclosure(ID_2, 7, 0)
+        ));
+        UndoLog undoLog = new UndoLog();
+        placementIndex.put(enclosure(ID_1, 8, 1), undoLog);
+        placementIndex.put(enclosure(ID_1, 5, 2), undoLog);
+        placementIndex.put(enclosure(ID_3, 9, 0), undoLog);
+        placementIndex.put(enclosure(ID_2, 2, 0));
+
+        // when
+        placementIndex.undo(undoLog);
+
+        // then
+        assertThat(placementIndex.snapshot())
+                .extracting(Enclosure::getId, Enclosure::getFreeSpace, Enclosure::getCarnivoreGroups)
+                .containsExactlyInAnyOrder(
+                        tuple(ID_1, 11, 0),
+                        tuple(ID_2, 2, 0)
+                );
+        assertThat(placementIndex.capacity().free())
+                .isEqualTo(13);
+    }
+
+    private Enclosure enclosure(UUID id, int freeSpace, int carnivoreGroups) {
+        return new Enclosure(id, "Test Enclosure", "Large", "Inside", List.of("Pool"), freeSpace, carnivoreGroups, 0);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.exception.EnclosureNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportJobRejectedException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
+import com.example.zooanimalmanagementsystem.service.exception.InputFileNotAvailableException;
+import com.example.zooanimalmanagementsystem.service.model.ImportJob;
+import com.example.zooanimalmanagementsystem.service.model.ImportJobStatus;
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import com.example.zooanimalmanagementsystem.service.model.ImportValidationError;
+import com.example.zooanimalmanagementsystem.service.model.LoadMethod;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import com.example.zooanimalmanagementsystem.service.model.SpooledMultipartFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportJobServiceTest {
+
+    @Mock
+    private ZooService zooService;
+
+    @Test
+    void runs_animals_import_and_reports_progress() throws IOException {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, Runnable::run);
+        when(zooService.storeAnimals(any(MultipartFile.class), any(IntConsumer.class), eq(PlacementStrategy.IN_ORDER), eq(LoadMethod.BATCH))).thenAnswer(invocation -> {
+            MultipartFile spooledFile = invocation.getArgument(0);
+            assertThat(spooledFile.getOriginalFilename()).isEqualTo("animals_test_data.json");
+            assertThat(spooledFile.isEmpty()).isFalse();
+            invocation.<IntConsumer>getArgument(1).accept(2);
+            return new ImportReport(2, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        });
+
+        // when
+        ImportJob job = importJobService.submitAnimalsImport(animalsFile(), PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
+
+        // then
+        assertThat(importJobService.findJobById(job.getId()))
+                .extracting(ImportJob::getStatus, ImportJob::getRecordsProcessed, ImportJob::getRecordsFailed)
+                .containsExactly(ImportJobStatus.COMPLETED, 2, 0);
+    }
+
+    @Test
+    void marks_job_as_failed_when_import_fails() throws IOException {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, Runnable::run);
+        when(zooService.storeAnimals(any(MultipartFile.class), any(IntConsumer.class), eq(PlacementStrategy.IN_ORDER), eq(LoadMethod.BATCH))).thenAnswer(invocation -> {
+            invocation.<IntConsumer>getArgument(1).accept(500);
+            throw new EnclosureNotFoundException("Can`t find suitable enclosure for given animal.");
+        });
+
+        // when
+        ImportJob job = importJobService.submitAnimalsImport(animalsFile(), PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
+
+        // then
+        assertThat(job)
+                .extracting(ImportJob::getStatus, ImportJob::getRecordsProcessed, ImportJob::getRecordsFailed, ImportJob::getError)
+                .containsExactly(ImportJobStatus.FAILED, 0, 500, "Can`t find suitable enclosure for given animal.");
+    }
+
+    @Test
+    void counts_all_records_as_failed_when_file_is_rejected() throws IOException {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, Runnable::run);
+        ImportValidationException givenException = new ImportValidationException(
+                List.of(new ImportValidationError(1, "Animal amount should not be less than 1.")), 1, 2);
+        when(zooService.storeAnimals(any(MultipartFile.class), any(IntConsumer.class), eq(PlacementStrategy.IN_ORDER), eq(LoadMethod.BATCH)))
+                .thenThrow(givenException);
+
+        // when
+        ImportJob job = importJobService.submitAnimalsImport(animalsFile(), PlacementStrategy.IN_ORDER, LoadMethod.BATCH);
+
+        // then
+        assertThat(job)
+                .extracting(ImportJob::getStatus, ImportJob::getRecordsProcessed, ImportJob::getRecordsFailed, ImportJob::getError)
+                .containsExactly(ImportJobStatus.FAILED, 0, 2, givenException.getMessage());
+    }
+
+    @Test
+    void imports_already_spooled_upload_without_copying_it() throws IOException {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, Runnable::run);
+        Path givenPath = Files.createTempFile("zoo-upload-", ".tmp");
+        Files.writeString(givenPath, "name,size,location,objects\nTest Enclosure 1,Large,Outside,Pool\n");
+        SpooledMultipartFile givenFile = new SpooledMultipartFile("file", "enclosures.csv", "text/csv", givenPath);
+        when(zooService.storeEnclosures(any(MultipartFile.class), any(IntConsumer.class), eq(LoadMethod.BATCH))).thenAnswer(invocation -> {
+            assertThat(invocation.<MultipartFile>getArgument(0)).isSameAs(givenFile);
+            return new ImportReport(1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        });
+
+        // when
+        ImportJob job = importJobService.submitEnclosuresImport(givenFile, LoadMethod.BATCH);
+
+        // then
+        assertThat(job.getStatus())
+                .isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(givenPath)
+                .doesNotExist();
+    }
+
+    @Test
+    void keeps_job_queued_until_executor_runs_it() throws IOException {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, task -> {
+        });
+
+        // when
+        ImportJob job = importJobService.submitEnclosuresImport(animalsFile(), LoadMethod.BATCH);
+
+        // then
+        assertThat(job.getStatus())
+                .isEqualTo(ImportJobStatus.QUEUED);
+    }
+
+    @Test
+    void throws_exception_when_import_queue_is_full() {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, task -> {
+            throw new TaskRejectedException("Queue is full");
+        });
+
+        // then
+        assertThatExceptionOfType(ImportJobRejectedException.class)
+                .isThrownBy(() -> importJobService.submitAnimalsImport(animalsFile(), PlacementStrategy.IN_ORDER, LoadMethod.BATCH))
+                .withMessage("Import queue is full. Please try again later.");
+    }
+
+    @Test
+    void throws_exception_when_file_is_empty() {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, Runnable::run);
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file", "animals_test_data.json", String.valueOf(MediaType.APPLICATION_JSON), (byte[]) null);
+
+        // then
+        assertThatExceptionOfType(InputFileNotAvailableException.class)
+                .isThrownBy(() -> importJobService.submitAnimalsImport(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.BATCH))
+                .withMessage("Can`t read data. File is either not uploaded or empty.");
+    }
+
+    @Test
+    void throws_exception_when_job_does_not_exist() {
+        // given
+        ImportJobService importJobService = new ImportJobService(zooService, Runnable::run);
+        UUID givenId = UUID.fromString("6879e088-6a43-4f13-bd57-6bddb54fbd1b");
+
+        // then
+        assertThatExceptionOfType(ImportJobNotFoundException.class)
+                .isThrownBy(() -> importJobService.findJobById(givenId))
+                .withMessage("Could not find import job with id - " + givenId);
+    }
+
+    private MockMultipartFile animalsFile() throws IOException {
+        return new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+    }
+}
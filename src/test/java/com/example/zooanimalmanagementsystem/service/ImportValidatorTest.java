@@ -0,0 +1,102 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
+import com.example.zooanimalmanagementsystem.service.model.AnimalDetails;
+import com.example.zooanimalmanagementsystem.service.model.EnclosureDetails;
+import com.example.zooanimalmanagementsystem.service.model.ImportValidationError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ImportValidatorTest {
+
+    @Test
+    void accepts_valid_animals() {
+        // given
+        ImportValidator<AnimalDetails> validator = ImportValidator.forAnimals();
+
+        // when
+        validator.validate(List.of(
+                new AnimalDetails("Lion", "Carnivore", 3),
+                new AnimalDetails("Giraffe", "herbivore", 15)
+        ));
+
+        // then
+        assertThatCode(validator::complete)
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void collects_every_animal_error_with_record_index_across_chunks() {
+        // given
+        ImportValidator<AnimalDetails> validator = ImportValidator.forAnimals();
+
+        // when
+        validator.validate(List.of(
+                new AnimalDetails("Lion", "Carnivore", 3),
+                new AnimalDetails("Zebra", "Omnivore", 0)
+        ));
+        validator.validate(List.of(
+                new AnimalDetails(" ", "Herbivore", 16),
+                new AnimalDetails("Lion", "Carnivore", 2)
+        ));
+
+        // then
+        assertThatExceptionOfType(ImportValidationException.class)
+                .isThrownBy(validator::complete)
+                .satisfies(e -> assertThat(e.getErrors()).containsExactly(
+                        new ImportValidationError(1, "Please specify correct animal food. Usage 'Carnivore' or 'Herbivore'."),
+                        new ImportValidationError(1, "Animal amount should not be less than 1."),
+                        new ImportValidationError(2, "Species is required."),
+                        new ImportValidationError(2, "Animal amount should not be greater than 15, the capacity of the largest enclosure."),
+                        new ImportValidationError(3, "Duplicate species 'Lion', first seen in record 0.")
+                ))
+                .withMessageStartingWith("File reading cancelled. Found 5 invalid records: record 1: ");
+    }
+
+    @Test
+    void collects_enclosure_errors() {
+        // given
+        ImportValidator<EnclosureDetails> validator = ImportValidator.forEnclosures();
+
+        // when
+        validator.validate(List.of(
+                new EnclosureDetails("Enclosure 1", "Large", "Outside", List.of("Pool")),
+                new EnclosureDetails("Enclosure 2", "Gigantic", null, List.of()),
+                new EnclosureDetails("Enclosure 1", "Small", "Inside", List.of())
+        ));
+
+        // then
+        assertThatExceptionOfType(ImportValidationException.class)
+                .isThrownBy(validator::complete)
+                .satisfies(e -> assertThat(e.getErrors()).containsExactly(
+                        new ImportValidationError(1, "Enclosure location is required."),
+                        new ImportValidationError(1, "Unknown enclosure size 'Gigantic'. Usage 'Small', 'Medium', 'Large' or 'Huge'.")
+                ));
+    }
+
+    @Test
+    void counts_all_errors_but_keeps_details_of_the_first_ones() {
+        // given
+        ImportValidator<AnimalDetails> validator = ImportValidator.forAnimals();
+
+        // when
+        validator.validate(IntStream.range(0, 1500)
+                .mapToObj(i -> new AnimalDetails("Species " + i, "Carnivore", 0))
+                .toList());
+
+        // then
+        assertThatExceptionOfType(ImportValidationException.class)
+                .isThrownBy(validator::complete)
+                .satisfies(e -> {
+                    assertThat(e.getErrorCount()).isEqualTo(1500);
+                    assertThat(e.getErrors()).hasSize(1000);
+                })
+                .withMessageEndingWith("; and 1480 more");
+    }
+}
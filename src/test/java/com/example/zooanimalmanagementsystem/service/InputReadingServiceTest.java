@@ -8,11 +8,15 @@ import com.example.zooanimalmanagementsystem.service.model.EnclosureDetails;
 import com.example.zooanimalmanagementsystem.service.model.EnclosuresList;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -132,4 +136,136 @@ public class InputReadingServiceTest {
                 .isThrownBy(() -> inputReadingService.retrieveAnimalsData(givenFile))
                 .withMessage("Can`t read data from file. Make sure file has correct format");
     }
+
+    @Test
+    void reads_animals_file_in_chunks_of_given_size() throws IOException {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        List<List<AnimalDetails>> actualChunks = new ArrayList<>();
+
+        // when
+        inputReadingService.retrieveAnimalsData(givenFile, 1, actualChunks::add);
+
+        // then
+        assertThat(actualChunks)
+                .containsExactly(
+                        List.of(new AnimalDetails("Test 1", "Herbivore", 2)),
+                        List.of(new AnimalDetails("Test 2", "Carnivore", 3))
+                );
+    }
+
+    @Test
+    void skips_unrelated_fields_while_reading_enclosures_file_in_chunks() {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "enclosures.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                """
+                        {
+                            "exportedAt": {"date": "2023-06-01"},
+                            "enclosures": [
+                                {"name": "Test Enclosure 1", "size": "Large", "location": "Outside", "objects": ["Pool"]}
+                            ]
+                        }
+                        """.getBytes()
+        );
+        List<EnclosureDetails> actualEnclosures = new ArrayList<>();
+
+        // when
+        inputReadingService.retrieveEnclosuresData(givenFile, 10, actualEnclosures::addAll);
+
+        // then
+        assertThat(actualEnclosures)
+                .containsExactly(new EnclosureDetails("Test Enclosure 1", "Large", "Outside", List.of("Pool")));
+    }
+
+    @Test
+    void throws_exception_when_animals_array_is_missing() {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                "{\"enclosures\": []}".getBytes()
+        );
+
+        // then
+        assertThatExceptionOfType(ReadingFromFileFailedException.class)
+                .isThrownBy(() -> inputReadingService.retrieveAnimalsData(givenFile, 10, chunk -> {}))
+                .withMessage("Can`t read data from file. Make sure file has correct format");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "animals_test_data.ndjson, animals_test_data.ndjson, application/octet-stream",
+            "animals_test_data.csv, animals_test_data.csv, application/octet-stream",
+            "animals_test_data.ndjson, animals, application/x-ndjson",
+            "animals_test_data.csv, animals, text/csv"
+    })
+    void reads_animals_file_in_format_given_by_extension_or_content_type(
+            String sourceFileName, String givenFileName, String contentType
+    ) throws IOException {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                givenFileName,
+                contentType,
+                new FileInputStream("src/test/resources/" + sourceFileName)
+        );
+
+        // when
+        AnimalsList actualAnimalsList = inputReadingService.retrieveAnimalsData(givenFile);
+
+        // then
+        assertThat(actualAnimalsList.animals())
+                .containsExactly(
+                        new AnimalDetails("Test 1", "Herbivore", 2),
+                        new AnimalDetails("Test 2", "Carnivore", 3)
+                );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"enclosures_test_data.ndjson", "enclosures_test_data.csv"})
+    void reads_enclosures_from_ndjson_and_csv_files(String fileName) throws IOException {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                fileName,
+                String.valueOf(MediaType.APPLICATION_OCTET_STREAM),
+                new FileInputStream("src/test/resources/" + fileName)
+        );
+
+        // when
+        EnclosuresList actualEnclosuresList = inputReadingService.retrieveEnclosuresData(givenFile);
+
+        // then
+        assertThat(actualEnclosuresList.enclosures())
+                .containsExactly(
+                        new EnclosureDetails("Test Enclosure 1", "Large", "Outside", List.of("Pool", "Rocks", "Trees")),
+                        new EnclosureDetails("Test Enclosure 2", "Medium", "Inside", List.of("Logs", "Rocks", "Trees"))
+                );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/x-ndjson", "text/csv"})
+    void throws_exception_when_ndjson_or_csv_file_has_incorrect_format(String contentType) {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals",
+                contentType,
+                "species, food, amount\nLion, Carnivore, many".getBytes()
+        );
+
+        // then
+        assertThatExceptionOfType(ReadingFromFileFailedException.class)
+                .isThrownBy(() -> inputReadingService.retrieveAnimalsData(givenFile))
+                .withMessage("Can`t read data from file. Make sure file has correct format");
+    }
 }
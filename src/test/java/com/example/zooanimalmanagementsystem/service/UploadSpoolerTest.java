@@ -0,0 +1,74 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.exception.UploadTooLargeException;
+import com.example.zooanimalmanagementsystem.service.model.SpooledMultipartFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class UploadSpoolerTest {
+
+    private static final String BODY = "species,food,amount\nLion,Carnivore,3\n";
+
+    private final UploadSpooler uploadSpooler = new UploadSpooler(DataSize.ofBytes(64));
+
+    @Test
+    void passes_spooled_upload_to_action_and_deletes_it_afterwards() {
+        // given
+        List<Path> spooledPaths = new ArrayList<>();
+
+        // when
+        String actualContent = uploadSpooler.withSpooledUpload(body(BODY), "animals.csv", "text/csv", file -> {
+            spooledPaths.add(((SpooledMultipartFile) file).getPath());
+            try (InputStream inputStream = file.getInputStream()) {
+                return file.getOriginalFilename() + ";" + file.getContentType() + ";"
+                        + new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        assertThat(actualContent)
+                .isEqualTo("animals.csv;text/csv;" + BODY);
+        assertThat(spooledPaths)
+                .hasSize(1)
+                .allMatch(path -> !Files.exists(path));
+    }
+
+    @Test
+    void rejects_upload_larger_than_limit_and_removes_partial_file() throws IOException {
+        // given
+        long spooledFilesBefore = countSpooledFiles();
+
+        // then
+        assertThatExceptionOfType(UploadTooLargeException.class)
+                .isThrownBy(() -> uploadSpooler.withSpooledUpload(
+                        body(BODY.repeat(4)), "animals.csv", "text/csv", file -> file))
+                .withMessage("Upload exceeds the maximum size of 64 bytes.");
+        assertThat(countSpooledFiles())
+                .isEqualTo(spooledFilesBefore);
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long countSpooledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("zoo-upload-")).count();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.zooanimalmanagementsystem.service;
+
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ZooMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ZooMetrics zooMetrics = new ZooMetrics(meterRegistry);
+
+    @Test
+    void counts_placements_by_outcome() {
+        // when
+        zooMetrics.placementsSucceeded(3);
+        zooMetrics.noSuitableEnclosureFound();
+        zooMetrics.notEnoughFreeSpace();
+        zooMetrics.notEnoughFreeSpace();
+
+        // then
+        assertThat(meterRegistry.get("zoo.placements").tag("outcome", "success").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("zoo.placements").tag("outcome", "no_suitable_enclosure").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("zoo.placements").tag("outcome", "not_enough_free_space").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void records_import_throughput_and_phases() {
+        // given
+        ImportReport report = new ImportReport(1000, Duration.ofMillis(200), Duration.ofMillis(300), Duration.ofMillis(500));
+
+        // when
+        zooMetrics.importCompleted("animals", report);
+
+        // then
+        assertThat(meterRegistry.get("zoo.import.records").tag("data", "animals").counter().count())
+                .isEqualTo(1000);
+        assertThat(meterRegistry.get("zoo.import.throughput").tag("data", "animals").summary().max())
+                .isEqualTo(1000);
+        assertThat(meterRegistry.get("zoo.import.phase").tag("phase", "persistence").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(500);
+    }
+
+    @Test
+    void counts_invalid_records_of_rejected_imports() {
+        // when
+        zooMetrics.importRejected("animals", 3);
+        zooMetrics.importRejected("animals", 2);
+
+        // then
+        assertThat(meterRegistry.get("zoo.import.invalid.records").tag("data", "animals").counter().count())
+                .isEqualTo(5);
+    }
+}
@@ -1,42 +1,79 @@
 package com.example.zooanimalmanagementsystem.service;
 
 import com.example.zooanimalmanagementsystem.repository.AnimalRepository;
+import com.example.zooanimalmanagementsystem.repository.BulkLoad;
+import com.example.zooanimalmanagementsystem.repository.BulkLoadRepository;
 import com.example.zooanimalmanagementsystem.repository.EnclosureRepository;
+import com.example.zooanimalmanagementsystem.repository.NameDictionaries;
 import com.example.zooanimalmanagementsystem.repository.model.Animal;
+import com.example.zooanimalmanagementsystem.repository.model.AnimalView;
 import com.example.zooanimalmanagementsystem.repository.model.Enclosure;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureFilter;
+import com.example.zooanimalmanagementsystem.repository.model.EnclosureOccupancy;
+import com.example.zooanimalmanagementsystem.repository.model.Food;
 import com.example.zooanimalmanagementsystem.service.exception.AnimalNotFoundException;
 import com.example.zooanimalmanagementsystem.service.exception.DataAlreadyStoredException;
 import com.example.zooanimalmanagementsystem.service.exception.EnclosureNotFoundException;
+import com.example.zooanimalmanagementsystem.service.exception.ImportValidationException;
 import com.example.zooanimalmanagementsystem.service.exception.IncorrectAnimalTypeException;
 import com.example.zooanimalmanagementsystem.service.exception.NotEnoughFreeSpaceInEnclosure;
 import com.example.zooanimalmanagementsystem.service.model.AnimalDetails;
 import com.example.zooanimalmanagementsystem.service.model.AnimalsList;
+import com.example.zooanimalmanagementsystem.service.model.BatchItemResult;
 import com.example.zooanimalmanagementsystem.service.model.EnclosureDetails;
 import com.example.zooanimalmanagementsystem.service.model.EnclosuresList;
+import com.example.zooanimalmanagementsystem.service.model.ImportReport;
+import com.example.zooanimalmanagementsystem.service.model.LoadMethod;
+import com.example.zooanimalmanagementsystem.service.model.PlacementSimulation;
+import com.example.zooanimalmanagementsystem.service.model.PlacementStrategy;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,29 +89,113 @@ public class ZooServiceTest {
     @Mock
     private AnimalRepository animalRepository;
 
+    @Mock
+    private BulkLoadRepository bulkLoadRepository;
+
+    @Mock
+    private NameDictionaries nameDictionaries;
+
     @Mock
     private InputReadingService inputReadingService;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ZooMetrics zooMetrics;
+
     @InjectMocks
     private ZooService zooService;
 
     @Test
-    void returns_collection_of_animals() {
+    void returns_first_page_of_animals() {
         // given
-        List<Animal> expectedAnimals = List.of(
-                        new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID),
-                        new Animal(ID_2, "Giraffe", "Herbivore", 2, ENCLOSURE_ID)
-        );
-        when(animalRepository.findAll()).thenReturn(expectedAnimals);
+        Slice<AnimalView> expectedAnimals = new SliceImpl<>(List.of(
+                new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID),
+                new AnimalView(ID_2, "Giraffe", Food.HERBIVORE, 2, ENCLOSURE_ID)
+        ));
+        when(animalRepository.findViews(PageRequest.of(0, 2, Sort.by("id")))).thenReturn(expectedAnimals);
+
+        // when
+        Slice<AnimalView> actualAnimals = zooService.findAnimals(null, 2);
+
+        // then
+        assertThat(actualAnimals)
+                .isEqualTo(expectedAnimals);
+    }
+
+    @Test
+    void returns_page_of_animals_after_given_cursor() {
+        // given
+        Slice<AnimalView> expectedAnimals = new SliceImpl<>(List.of(new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID)));
+        when(animalRepository.findViewsByIdGreaterThan(ID_2, PageRequest.of(0, 2, Sort.by("id")))).thenReturn(expectedAnimals);
 
         // when
-        List<Animal> actualAnimals = zooService.findAllAnimals();
+        Slice<AnimalView> actualAnimals = zooService.findAnimals(ID_2, 2);
 
         // then
         assertThat(actualAnimals)
                 .isEqualTo(expectedAnimals);
     }
 
+    @Test
+    void returns_filtered_page_of_enclosures() {
+        // given
+        EnclosureFilter filter = new EnclosureFilter("Outside", "Large", 5, List.of("Trees"));
+        Slice<Enclosure> expectedEnclosures = new SliceImpl<>(List.of(
+                new Enclosure(ENCLOSURE_ID, "Test Enclosure", "Large", "Outside", List.of("Trees"), 8, 0, 1)
+        ));
+        when(enclosureRepository.findByFilter(filter, ID_2, 2)).thenReturn(expectedEnclosures);
+
+        // when
+        Slice<Enclosure> actualEnclosures = zooService.findEnclosures(filter, ID_2, 2);
+
+        // then
+        assertThat(actualEnclosures)
+                .isEqualTo(expectedEnclosures);
+    }
+
+    @Test
+    void passes_each_streamed_animal_to_action() {
+        // given
+        AnimalView lion = new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID);
+        AnimalView giraffe = new AnimalView(ID_2, "Giraffe", Food.HERBIVORE, 2, ENCLOSURE_ID);
+        when(animalRepository.streamViews()).thenReturn(Stream.of(lion, giraffe));
+        List<AnimalView> visitedAnimals = new ArrayList<>();
+
+        // when
+        zooService.forEachAnimal(visitedAnimals::add);
+
+        // then
+        assertThat(visitedAnimals)
+                .containsExactly(lion, giraffe);
+    }
+
+    @Test
+    void finds_animal_view_by_id() {
+        // given
+        AnimalView expectedAnimal = new AnimalView(ID_1, "Lion", Food.CARNIVORE, 3, ENCLOSURE_ID);
+        when(animalRepository.findViewById(ID_1)).thenReturn(Optional.of(expectedAnimal));
+
+        // when
+        AnimalView actualAnimal = zooService.findAnimalViewById(ID_1);
+
+        // then
+        assertThat(actualAnimal)
+                .isEqualTo(expectedAnimal);
+    }
+
+    @Test
+    void throws_exception_when_trying_to_find_view_of_non_existing_animal() {
+        // given
+        when(animalRepository.findViewById(ID_1)).thenReturn(Optional.empty());
+
+        // then
+        assertThatExceptionOfType(AnimalNotFoundException.class)
+                .isThrownBy(() -> zooService.findAnimalViewById(ID_1))
+                .withMessage("Could not find animal with id - " + ID_1);
+    }
+
     @Test
     void finds_animal_by_id() {
         // given
@@ -113,9 +234,12 @@ public class ZooServiceTest {
                 "Inside",
                 List.of("Pool", "Rocks", "Trees"),
                 11,
-                new ArrayList<>(List.of("Empty"))
+                0,
+                0
         );
-        when(enclosureRepository.findAll()).thenReturn(List.of(givenEnclosure));
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(occupancyOf(givenEnclosure)));
+        when(enclosureRepository.reserveSpaceForAnimal(ENCLOSURE_ID, 3, true)).thenReturn(1);
+        when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(givenEnclosure));
         when(animalRepository.save(givenAnimal)).thenReturn(expectedAnimal);
 
         // when
@@ -124,6 +248,86 @@ public class ZooServiceTest {
         // then
         assertThat(actualAnimal)
                 .isEqualTo(expectedAnimal);
+        verify(enclosureRepository, never()).save(any(Enclosure.class));
+    }
+
+    @Test
+    void saves_animal_to_next_candidate_when_stored_enclosure_no_longer_fits() {
+        // given
+        Animal givenAnimal = new Animal("Lion", "Carnivore", 3);
+        Enclosure indexedEnclosure = new Enclosure(
+                ID_2, "Test Enclosure 2", "Small", "Inside", List.of("Rocks"), 3, 0, 0);
+        Enclosure storedEnclosure = new Enclosure(
+                ID_2, "Test Enclosure 2", "Small", "Inside", List.of("Rocks"), 0, 0, 1);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 11, 0, 0);
+        when(enclosureRepository.findAllOccupancies())
+                .thenReturn(List.of(occupancyOf(indexedEnclosure), occupancyOf(givenEnclosure)));
+        when(enclosureRepository.reserveSpaceForAnimal(ID_2, 3, true)).thenReturn(0);
+        when(enclosureRepository.reserveSpaceForAnimal(ENCLOSURE_ID, 3, true)).thenReturn(1);
+        when(enclosureRepository.findById(ID_2)).thenReturn(Optional.of(storedEnclosure));
+        when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(givenEnclosure));
+        when(animalRepository.save(givenAnimal)).thenReturn(givenAnimal);
+
+        // when
+        Animal actualAnimal = zooService.saveAnimal(givenAnimal);
+
+        // then
+        assertThat(actualAnimal.getEnclosureId())
+                .isEqualTo(ENCLOSURE_ID);
+    }
+
+    @Test
+    void saves_animal_to_enclosure_found_in_database_when_index_has_no_candidate() {
+        // given
+        Animal givenAnimal = new Animal("Lion", "Carnivore", 3);
+        Enclosure reservedEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 1, 0);
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of());
+        when(enclosureRepository.findBestFitIdForCarnivores(3)).thenReturn(Optional.of(ENCLOSURE_ID));
+        when(enclosureRepository.reserveSpaceForAnimal(ENCLOSURE_ID, 3, true)).thenReturn(1);
+        when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(reservedEnclosure));
+        when(animalRepository.save(givenAnimal)).thenReturn(givenAnimal);
+
+        // when
+        Animal actualAnimal = zooService.saveAnimal(givenAnimal);
+
+        // then
+        assertThat(actualAnimal.getEnclosureId())
+                .isEqualTo(ENCLOSURE_ID);
+        assertThat(zooService.getEnclosureCapacity().free())
+                .isEqualTo(8);
+        verify(enclosureRepository, never()).findBestFitIdForHerbivores(anyInt());
+    }
+
+    @Test
+    void restores_placement_index_without_reloading_when_transaction_rolls_back() {
+        // given
+        Animal givenAnimal = new Animal("Lion", "Carnivore", 3);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 11, 0, 0);
+        Enclosure reservedEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 1, 0);
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(occupancyOf(givenEnclosure)));
+        when(enclosureRepository.reserveSpaceForAnimal(ENCLOSURE_ID, 3, true)).thenReturn(1);
+        when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(reservedEnclosure));
+        when(animalRepository.save(givenAnimal)).thenThrow(new IllegalStateException("Insert failed"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> zooService.saveAnimal(givenAnimal));
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        // then
+        assertThat(zooService.getEnclosureCapacity().free())
+                .isEqualTo(11);
+        verify(enclosureRepository, times(1)).findAllOccupancies();
     }
 
     @Test
@@ -146,6 +350,7 @@ public class ZooServiceTest {
         assertThatExceptionOfType(EnclosureNotFoundException.class)
                 .isThrownBy(() -> zooService.saveAnimal(givenAnimal))
                 .withMessage("Can`t find suitable enclosure for given animal.");
+        verify(zooMetrics).noSuitableEnclosureFound();
     }
 
     @Test
@@ -159,24 +364,26 @@ public class ZooServiceTest {
                 "Inside",
                 List.of("Pool", "Rocks", "Trees"),
                 8,
-                new ArrayList<>(List.of("Carnivore"))
+                1,
+                0
         );
-        when(animalRepository.findById(ID_1)).thenReturn(Optional.of(givenAnimal));
+        when(animalRepository.findByIdForUpdate(ID_1)).thenReturn(Optional.of(givenAnimal));
+        when(animalRepository.removeById(ID_1)).thenReturn(1);
         when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(givenEnclosure));
-        doNothing().when(animalRepository).deleteById(ID_1);
 
         // when
         zooService.deleteAnimalById(ID_1);
 
         // then
-        verify(animalRepository, times(1)).deleteById(ID_1);
+        verify(animalRepository, times(1)).removeById(ID_1);
+        verify(enclosureRepository, times(1)).releaseSpaceOfAnimal(ENCLOSURE_ID, 3, true);
         verifyNoMoreInteractions(animalRepository);
     }
 
     @Test
     void throws_exception_when_trying_to_delete_non_existing_animal() {
         // given
-        doThrow(AnimalNotFoundException.class).when(animalRepository).findById(ID_1);
+        doThrow(AnimalNotFoundException.class).when(animalRepository).findByIdForUpdate(ID_1);
 
         // then
         assertThatExceptionOfType(AnimalNotFoundException.class)
@@ -184,15 +391,29 @@ public class ZooServiceTest {
                 .withMessage("Deletion failed. Could not find animal with id - " + ID_1);
     }
 
+    @Test
+    void throws_exception_when_animal_was_deleted_concurrently() {
+        // given
+        Animal givenAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
+        when(animalRepository.findByIdForUpdate(ID_1)).thenReturn(Optional.of(givenAnimal));
+        when(animalRepository.removeById(ID_1)).thenReturn(0);
+
+        // then
+        assertThatExceptionOfType(AnimalNotFoundException.class)
+                .isThrownBy(() -> zooService.deleteAnimalById(ID_1))
+                .withMessage("Deletion failed. Could not find animal with id - " + ID_1);
+        verify(enclosureRepository, never()).releaseSpaceOfAnimal(any(UUID.class), anyInt(), anyBoolean());
+    }
+
     @Test
     void updates_animal_by_id_with_provided_data() {
         // given
         Animal givenAnimal = new Animal("Lion", 3);
         Animal expectedAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
-        ArrayList<String> animals = new ArrayList<>(List.of("Carnivore"));
         Enclosure givenEnclosure = new Enclosure(
-                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool", "Rocks", "Trees"), 8, animals);
-        when(animalRepository.findById(ID_1)).thenReturn(Optional.of(expectedAnimal));
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool", "Rocks", "Trees"), 8, 1, 0);
+        when(animalRepository.findByIdForUpdate(ID_1)).thenReturn(Optional.of(expectedAnimal));
+        when(enclosureRepository.reserveSpace(ENCLOSURE_ID, 0)).thenReturn(1);
         when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(givenEnclosure));
         when(animalRepository.save(expectedAnimal)).thenReturn(expectedAnimal);
 
@@ -202,13 +423,16 @@ public class ZooServiceTest {
         // then
         assertThat(actualAnimal)
                 .isEqualTo(expectedAnimal);
+        InOrder inOrder = inOrder(animalRepository, enclosureRepository);
+        inOrder.verify(animalRepository).findByIdForUpdate(ID_1);
+        inOrder.verify(enclosureRepository).reserveSpace(ENCLOSURE_ID, 0);
     }
 
     @Test
     void throws_exception_when_trying_to_update_non_existing_animal() {
         // given
         Animal givenAnimal = new Animal("Lion", 3);
-        when(animalRepository.findById(ID_1)).thenReturn(Optional.empty());
+        when(animalRepository.findByIdForUpdate(ID_1)).thenReturn(Optional.empty());
 
         // then
         assertThatExceptionOfType(AnimalNotFoundException.class)
@@ -222,16 +446,244 @@ public class ZooServiceTest {
         String message = "Update failed. Enclosure can`t store such amount of animals.";
         Animal givenAnimal = new Animal("Lion", 7);
         Animal actualAnimal = new Animal(ID_1, "Lion", "Carnivore", 5, ENCLOSURE_ID);
-        ArrayList<String> animals = new ArrayList<>(List.of("Carnivore"));
-        Enclosure givenEnclosure = new Enclosure(
-                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool", "Rocks", "Trees"), 1, animals);
-        when(animalRepository.findById(ID_1)).thenReturn(Optional.of(actualAnimal));
-        when(enclosureRepository.findById(ENCLOSURE_ID)).thenReturn(Optional.of(givenEnclosure));
+        when(animalRepository.findByIdForUpdate(ID_1)).thenReturn(Optional.of(actualAnimal));
+        when(enclosureRepository.reserveSpace(ENCLOSURE_ID, 2)).thenReturn(0);
 
         // then
         assertThatExceptionOfType(NotEnoughFreeSpaceInEnclosure.class)
                 .isThrownBy(() -> zooService.updateAnimal(ID_1, givenAnimal))
                 .withMessage("Update failed. Enclosure can`t store such amount of animals.");
+        verify(zooMetrics).notEnoughFreeSpace();
+    }
+
+    @Test
+    void saves_batch_of_animals_and_reports_items_that_could_not_be_placed() {
+        // given
+        Animal lion = new Animal("Lion", "Carnivore", 3);
+        Animal unknown = new Animal("Rock", "Minerals", 1);
+        Animal elephant = new Animal("Elephant", "Herbivore", 20);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 11, 0, 0);
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(occupancyOf(givenEnclosure)));
+        when(enclosureRepository.findAllByIdForUpdate(Set.of(ENCLOSURE_ID))).thenReturn(List.of(givenEnclosure));
+
+        // when
+        List<BatchItemResult<Animal>> results = zooService.saveAnimals(List.of(lion, unknown, elephant));
+
+        // then
+        assertThat(results)
+                .extracting(BatchItemResult::index, BatchItemResult::error)
+                .containsExactly(
+                        tuple(0, null),
+                        tuple(1, "Please specify correct animal food. Usage 'Carnivore' or 'Herbivore'."),
+                        tuple(2, "Can`t find suitable enclosure for given animal.")
+                );
+        assertThat(lion.getEnclosureId())
+                .isEqualTo(ENCLOSURE_ID);
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(8);
+        assertThat(givenEnclosure.getCarnivoreGroups())
+                .isEqualTo(1);
+        verify(animalRepository).saveAll(List.of(lion));
+        verify(zooMetrics).placementsSucceeded(1);
+    }
+
+    @Test
+    void saves_batch_of_animals_into_locked_enclosure_state_when_index_is_cold() {
+        // given
+        Animal lion = new Animal("Lion", "Carnivore", 3);
+        Enclosure indexedEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 11, 0, 0);
+        Enclosure lockedEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 5, 0, 1);
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(occupancyOf(indexedEnclosure)));
+        when(enclosureRepository.findAllByIdForUpdate(Set.of(ENCLOSURE_ID))).thenReturn(List.of(lockedEnclosure));
+
+        // when
+        List<BatchItemResult<Animal>> results = zooService.saveAnimals(List.of(lion));
+
+        // then
+        assertThat(results)
+                .extracting(BatchItemResult::error)
+                .containsOnlyNulls();
+        assertThat(lockedEnclosure.getFreeSpace())
+                .isEqualTo(2);
+        assertThat(zooService.getEnclosureCapacity().free())
+                .isEqualTo(2);
+        verify(enclosureRepository, never()).findAll();
+        verify(enclosureRepository, never()).findByIdForUpdate(any(UUID.class));
+    }
+
+    @Test
+    void locks_planned_enclosures_at_once_and_again_when_locked_ones_no_longer_fit() {
+        // given
+        Animal lion = new Animal("Lion", "Carnivore", 3);
+        Animal zebra = new Animal("Zebra", "Herbivore", 4);
+        Enclosure smallEnclosure = new Enclosure(
+                ID_1, "Test Enclosure 1", "Small", "Inside", List.of("Rocks"), 3, 0, 0);
+        Enclosure mediumEnclosure = new Enclosure(
+                ID_2, "Test Enclosure 2", "Medium", "Inside", List.of("Rocks"), 4, 0, 0);
+        Enclosure lockedMediumEnclosure = new Enclosure(
+                ID_2, "Test Enclosure 2", "Medium", "Inside", List.of("Rocks"), 1, 0, 1);
+        Enclosure largeEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 3", "Large", "Inside", List.of("Pool"), 11, 0, 0);
+        List<Set<UUID>> lockedIds = new ArrayList<>();
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(
+                occupancyOf(smallEnclosure), occupancyOf(mediumEnclosure), occupancyOf(largeEnclosure)));
+        when(enclosureRepository.findAllByIdForUpdate(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            lockedIds.add(Set.copyOf(ids));
+            return Stream.of(smallEnclosure, lockedMediumEnclosure, largeEnclosure)
+                    .filter(enclosure -> ids.contains(enclosure.getId()))
+                    .toList();
+        });
+
+        // when
+        List<BatchItemResult<Animal>> results = zooService.saveAnimals(List.of(lion, zebra));
+
+        // then
+        assertThat(results)
+                .extracting(BatchItemResult::error)
+                .containsOnlyNulls();
+        assertThat(lockedIds)
+                .containsExactly(Set.of(ID_1, ID_2), Set.of(ENCLOSURE_ID));
+        assertThat(lion.getEnclosureId())
+                .isEqualTo(ID_1);
+        assertThat(zebra.getEnclosureId())
+                .isEqualTo(ENCLOSURE_ID);
+    }
+
+    @Test
+    void updates_batch_of_animals_and_reports_items_that_failed() {
+        // given
+        Animal storedAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
+        Animal lion = new Animal("Lion", 5);
+        lion.setId(ID_1);
+        Animal tooManyLions = new Animal("Lion", 20);
+        tooManyLions.setId(ID_1);
+        Animal missing = new Animal("Zebra", 2);
+        missing.setId(ID_2);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 1, 0);
+        when(animalRepository.findAllByIdForUpdate(Set.of(ID_1, ID_2))).thenReturn(List.of(storedAnimal));
+        when(enclosureRepository.findAllByIdForUpdate(Set.of(ENCLOSURE_ID))).thenReturn(List.of(givenEnclosure));
+
+        // when
+        List<BatchItemResult<Animal>> results = zooService.updateAnimals(List.of(lion, tooManyLions, missing));
+
+        // then
+        assertThat(results)
+                .extracting(BatchItemResult::index, BatchItemResult::error)
+                .containsExactly(
+                        tuple(0, null),
+                        tuple(1, "Update failed. Enclosure can`t store such amount of animals."),
+                        tuple(2, "Update failed. Could not find animal with id - " + ID_2)
+                );
+        assertThat(storedAnimal.getAmount())
+                .isEqualTo(5);
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(6);
+        verify(zooMetrics).notEnoughFreeSpace();
+        verify(animalRepository).flush();
+    }
+
+    @Test
+    void deletes_batch_of_animals_and_reports_missing_ones() {
+        // given
+        Animal storedAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 1, 0);
+        when(animalRepository.findAllByIdForUpdate(Set.of(ID_1, ID_2))).thenReturn(List.of(storedAnimal));
+        when(enclosureRepository.findAllByIdForUpdate(Set.of(ENCLOSURE_ID))).thenReturn(List.of(givenEnclosure));
+        when(animalRepository.removeAllById(Set.of(ID_1))).thenReturn(1);
+
+        // when
+        List<BatchItemResult<UUID>> results = zooService.deleteAnimalsByIds(List.of(ID_1, ID_2, ID_1));
+
+        // then
+        assertThat(results)
+                .extracting(BatchItemResult::result, BatchItemResult::error)
+                .containsExactly(
+                        tuple(ID_1, null),
+                        tuple(null, "Deletion failed. Could not find animal with id - " + ID_2),
+                        tuple(null, "Deletion failed. Could not find animal with id - " + ID_1)
+                );
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(11);
+        assertThat(givenEnclosure.getCarnivoreGroups())
+                .isZero();
+    }
+
+    @Test
+    void does_not_release_space_when_locked_animals_were_not_all_deleted() {
+        // given
+        Animal storedAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 1, 0);
+        when(animalRepository.findAllByIdForUpdate(Set.of(ID_1))).thenReturn(List.of(storedAnimal));
+        when(enclosureRepository.findAllByIdForUpdate(Set.of(ENCLOSURE_ID))).thenReturn(List.of(givenEnclosure));
+        when(animalRepository.removeAllById(Set.of(ID_1))).thenReturn(0);
+
+        // then
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> zooService.deleteAnimalsByIds(List.of(ID_1)))
+                .withMessage("Deletion failed. Removed 0 of 1 locked animals.");
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(8);
+    }
+
+    @Test
+    void locks_batch_animals_before_their_enclosures() {
+        // given
+        Animal storedAnimal = new Animal(ID_1, "Lion", "Carnivore", 3, ENCLOSURE_ID);
+        Animal lion = new Animal("Lion", 4);
+        lion.setId(ID_1);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 1, 0);
+        when(animalRepository.findAllByIdForUpdate(Set.of(ID_1))).thenReturn(List.of(storedAnimal));
+        when(enclosureRepository.findAllByIdForUpdate(Set.of(ENCLOSURE_ID))).thenReturn(List.of(givenEnclosure));
+
+        // when
+        zooService.updateAnimals(List.of(lion));
+
+        // then
+        InOrder inOrder = inOrder(animalRepository, enclosureRepository);
+        inOrder.verify(animalRepository).findAllByIdForUpdate(Set.of(ID_1));
+        inOrder.verify(enclosureRepository).findAllByIdForUpdate(Set.of(ENCLOSURE_ID));
+    }
+
+    @Test
+    void simulates_placement_without_changing_enclosures() {
+        // given
+        Enclosure smallEnclosure = new Enclosure(
+                ID_2, "Test Enclosure 2", "Small", "Inside", List.of("Rocks"), 3, 0, 0);
+        Enclosure largeEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 8, 2, 0);
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(occupancyOf(smallEnclosure), occupancyOf(largeEnclosure)));
+        List<Animal> givenAnimals = List.of(
+                new Animal("Zebra", "Herbivore", 5),
+                new Animal("Lion", "Carnivore", 2),
+                new Animal("Elephant", "Herbivore", 9)
+        );
+
+        // when
+        PlacementSimulation actualSimulation = zooService.simulatePlacement(givenAnimals, PlacementStrategy.IN_ORDER);
+
+        // then
+        assertThat(actualSimulation.enclosureIds())
+                .containsExactly(ENCLOSURE_ID, ID_2, null);
+        assertThat(actualSimulation.report().unplaced())
+                .isEqualTo(1);
+        assertThat(actualSimulation.capacity())
+                .isEqualTo(14);
+        assertThat(actualSimulation.freeSpace())
+                .isEqualTo(4);
+        assertThat(largeEnclosure.getFreeSpace())
+                .isEqualTo(8);
+        assertThat(zooService.getEnclosureCapacity().free())
+                .isEqualTo(11);
+        verify(enclosureRepository, never()).saveAllAndFlush(any());
+        verifyNoInteractions(animalRepository, bulkLoadRepository);
     }
 
     @Test
@@ -253,17 +705,57 @@ public class ZooServiceTest {
                 String.valueOf(MediaType.APPLICATION_JSON),
                 new FileInputStream("src/test/resources/enclosures_test_data.json")
         );
-        when(inputReadingService.retrieveEnclosuresData(givenFile)).thenReturn(expectedEnclosuresList);
-        when(enclosureRepository.saveAll(
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<EnclosureDetails>>>getArgument(2).accept(expectedEnclosuresList.enclosures());
+            return null;
+        }).when(inputReadingService).retrieveEnclosuresData(eq(givenFile), anyInt(), any());
+        when(enclosureRepository.saveAllAndFlush(
                 argThat(matchesEnclosuresListToEntity(expectedEnclosuresList))
         ))
                 .thenReturn(expectedEnclosures);
         // when
-        List<Enclosure> actualEnclosures = zooService.storeEnclosures(givenFile);
+        ImportReport actualReport = zooService.storeEnclosures(givenFile);
 
         // then
-        assertThat(actualEnclosures)
-                .isEqualTo(expectedEnclosures);
+        assertThat(actualReport.records())
+                .isEqualTo(2);
+        verify(entityManager).detach(expectedEnclosures.get(0));
+        verify(entityManager).detach(expectedEnclosures.get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stores_enclosures_data_with_copy() throws IOException {
+        // given
+        EnclosuresList expectedEnclosuresList = new EnclosuresList(
+                List.of(
+                        new EnclosureDetails("Test Enclosure 1", "Large", "Outside", List.of("Pool", "Rocks", "Trees")),
+                        new EnclosureDetails("Test Enclosure 2", "Medium", "Inside", List.of("Logs", "Rocks", "Trees"))
+                )
+        );
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "enclosures_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/enclosures_test_data.json")
+        );
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<EnclosureDetails>>>getArgument(2).accept(expectedEnclosuresList.enclosures());
+            return null;
+        }).when(inputReadingService).retrieveEnclosuresData(eq(givenFile), anyInt(), any());
+        BulkLoad<Enclosure> givenLoad = mock(BulkLoad.class);
+        when(bulkLoadRepository.loadEnclosures()).thenReturn(givenLoad);
+
+        // when
+        ImportReport actualReport = zooService.storeEnclosures(givenFile, LoadMethod.COPY);
+
+        // then
+        assertThat(actualReport.records())
+                .isEqualTo(2);
+        verify(givenLoad).write(argThat(matchesEnclosuresListToEntity(expectedEnclosuresList)));
+        verify(givenLoad).finish();
+        verify(givenLoad).close();
+        verify(enclosureRepository, never()).saveAllAndFlush(anyList());
     }
 
     @Test
@@ -286,7 +778,6 @@ public class ZooServiceTest {
     @Test
     void stores_animals_data() throws IOException {
         // given
-        Animal expectedAnimal = new Animal(ID_1, "Test 1", "Herbivore", 3, ENCLOSURE_ID);
         AnimalDetails expectedAnimalDetails = new AnimalDetails("Test 1", "Herbivore", 2);
         Enclosure givenEnclosure = new Enclosure(
                 ENCLOSURE_ID,
@@ -295,7 +786,8 @@ public class ZooServiceTest {
                 "Inside",
                 List.of("Pool", "Rocks", "Trees"),
                 11,
-                new ArrayList<>(List.of("Empty"))
+                0,
+                0
         );
 
         MockMultipartFile givenFile = new MockMultipartFile(
@@ -305,18 +797,172 @@ public class ZooServiceTest {
                 new FileInputStream("src/test/resources/animals_test_data.json")
         );
 
-        when(inputReadingService.retrieveAnimalsData(givenFile)).thenReturn(new AnimalsList(List.of(expectedAnimalDetails)));
+        givenAnimalsInFile(givenFile, List.of(expectedAnimalDetails));
         when(enclosureRepository.count()).thenReturn(1L);
         when(enclosureRepository.findAll()).thenReturn(List.of(givenEnclosure));
-        when(animalRepository.save(argThat(matchesAnimalDetailsToEntity(expectedAnimalDetails)))).thenReturn(expectedAnimal);
-        when(animalRepository.findAll()).thenReturn(List.of(expectedAnimal));
 
         // when
-        List<Animal> actualAnimals = zooService.storeAnimals(givenFile);
+        ImportReport actualReport = zooService.storeAnimals(givenFile);
 
         // then
-        assertThat(actualAnimals)
-                .isEqualTo(List.of(expectedAnimal));
+        assertThat(actualReport.records())
+                .isEqualTo(1);
+        verify(animalRepository).saveAll(argThat(matchesAnimalDetailsToEntities(expectedAnimalDetails)));
+        verify(enclosureRepository).saveAllAndFlush(Set.of(givenEnclosure));
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(9);
+    }
+
+    @Test
+    void resolves_species_of_imported_chunk_before_persisting_it() throws IOException {
+        // given
+        AnimalDetails givenAnimalDetails = new AnimalDetails("Test 1", "Herbivore", 2);
+        Enclosure givenEnclosure = new Enclosure(ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of(), 11, 0, 0);
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        givenAnimalsInFile(givenFile, List.of(givenAnimalDetails));
+        when(enclosureRepository.count()).thenReturn(1L);
+        when(enclosureRepository.findAll()).thenReturn(List.of(givenEnclosure));
+
+        // when
+        zooService.storeAnimals(givenFile);
+
+        // then
+        InOrder inOrder = inOrder(nameDictionaries, animalRepository);
+        inOrder.verify(nameDictionaries).resolveSpecies(List.of("Test 1"));
+        inOrder.verify(animalRepository).saveAll(anyList());
+    }
+
+    @Test
+    void publishes_placement_of_stored_animals_to_index_after_commit() throws IOException {
+        // given
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool"), 11, 0, 0);
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        givenAnimalsInFile(givenFile, List.of(new AnimalDetails("Test 1", "Herbivore", 2)));
+        when(enclosureRepository.count()).thenReturn(1L);
+        when(enclosureRepository.findAll()).thenReturn(List.of(givenEnclosure));
+        when(enclosureRepository.findAllOccupancies()).thenReturn(List.of(occupancyOf(givenEnclosure)));
+        zooService.getEnclosureCapacity();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            zooService.storeAnimals(givenFile);
+            assertThat(zooService.getEnclosureCapacity().free())
+                    .isEqualTo(11);
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        // then
+        assertThat(zooService.getEnclosureCapacity().free())
+                .isEqualTo(9);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stores_animals_data_with_copy_and_updates_enclosure_counters() throws IOException {
+        // given
+        AnimalDetails expectedAnimalDetails = new AnimalDetails("Test 1", "Herbivore", 2);
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Large", "Inside", List.of("Pool", "Rocks", "Trees"), 11, 0, 0);
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        givenAnimalsInFile(givenFile, List.of(expectedAnimalDetails));
+        when(enclosureRepository.count()).thenReturn(1L);
+        when(enclosureRepository.findAll()).thenReturn(List.of(givenEnclosure));
+        BulkLoad<Animal> givenLoad = mock(BulkLoad.class);
+        when(bulkLoadRepository.loadAnimals()).thenReturn(givenLoad);
+
+        // when
+        ImportReport actualReport = zooService.storeAnimals(givenFile, PlacementStrategy.IN_ORDER, LoadMethod.COPY);
+
+        // then
+        assertThat(actualReport.records())
+                .isEqualTo(1);
+        verify(entityManager).detach(givenEnclosure);
+        verify(givenLoad).write(argThat(matchesAnimalDetailsToEntities(expectedAnimalDetails)));
+        verify(givenLoad).finish();
+        verify(bulkLoadRepository).updateEnclosureCounters(Set.of(givenEnclosure));
+        verify(animalRepository, never()).saveAll(anyList());
+        assertThat(givenEnclosure.getFreeSpace())
+                .isEqualTo(9);
+    }
+
+    @Test
+    void does_not_store_any_animal_when_one_of_them_can_not_be_placed() throws IOException {
+        // given
+        Enclosure givenEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Small", "Inside", List.of("Rocks"), 3, 0, 0);
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        givenAnimalsInFile(givenFile, List.of(
+                new AnimalDetails("Test 1", "Herbivore", 2),
+                new AnimalDetails("Test 2", "Carnivore", 3)
+        ));
+        when(enclosureRepository.count()).thenReturn(1L);
+        when(enclosureRepository.findAll()).thenReturn(List.of(givenEnclosure));
+
+        // then
+        assertThatExceptionOfType(EnclosureNotFoundException.class)
+                .isThrownBy(() -> zooService.storeAnimals(givenFile))
+                .withMessage("Can`t find suitable enclosure for given animal.");
+        verify(animalRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void stores_animals_placed_by_decreasing_amount() throws IOException {
+        // given
+        Enclosure smallEnclosure = new Enclosure(
+                ID_2, "Test Enclosure 2", "Medium", "Inside", List.of("Rocks"), 4, 0, 0);
+        Enclosure largeEnclosure = new Enclosure(
+                ENCLOSURE_ID, "Test Enclosure 1", "Medium", "Inside", List.of("Pool"), 5, 0, 0);
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        when(inputReadingService.retrieveAnimalsData(givenFile)).thenReturn(new AnimalsList(List.of(
+                new AnimalDetails("Zebra", "Herbivore", 2),
+                new AnimalDetails("Giraffe", "Herbivore", 3),
+                new AnimalDetails("Elephant", "Herbivore", 4)
+        )));
+        when(enclosureRepository.count()).thenReturn(2L);
+        when(enclosureRepository.findAll()).thenReturn(List.of(smallEnclosure, largeEnclosure));
+
+        // when
+        ImportReport actualReport = zooService.storeAnimals(givenFile, PlacementStrategy.BEST_FIT_DECREASING);
+
+        // then
+        assertThat(actualReport.records())
+                .isEqualTo(3);
+        assertThat(smallEnclosure.getFreeSpace())
+                .isZero();
+        assertThat(largeEnclosure.getFreeSpace())
+                .isZero();
+        verify(animalRepository).saveAllAndFlush(argThat((List<Animal> animals) -> animals.size() == 3));
+        verify(zooMetrics, times(2)).placementPlanned(any());
+        verify(inputReadingService, never()).retrieveAnimalsData(eq(givenFile), anyInt(), any());
     }
 
     @Test
@@ -354,6 +1000,38 @@ public class ZooServiceTest {
                 .withMessage("File reading cancelled. Given animals are already stored in database.");
     }
 
+    @Test
+    void rejects_animals_file_with_invalid_records_before_touching_database() throws IOException {
+        // given
+        MockMultipartFile givenFile = new MockMultipartFile(
+                "file",
+                "animals_test_data.json",
+                String.valueOf(MediaType.APPLICATION_JSON),
+                new FileInputStream("src/test/resources/animals_test_data.json")
+        );
+        givenAnimalsInFile(givenFile, List.of(
+                new AnimalDetails("Lion", "Carnivore", 3),
+                new AnimalDetails("Zebra", "Omnivore", 2),
+                new AnimalDetails("Lion", "Carnivore", 1)
+        ));
+
+        // then
+        assertThatExceptionOfType(ImportValidationException.class)
+                .isThrownBy(() -> zooService.storeAnimals(givenFile))
+                .withMessage("File reading cancelled. Found 2 invalid records: "
+                        + "record 1: Please specify correct animal food. Usage 'Carnivore' or 'Herbivore'.; "
+                        + "record 2: Duplicate species 'Lion', first seen in record 0.");
+        verify(zooMetrics).importRejected("animals", 2);
+        verifyNoInteractions(enclosureRepository, animalRepository, bulkLoadRepository);
+    }
+
+    private void givenAnimalsInFile(MultipartFile file, List<AnimalDetails> animals) {
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<AnimalDetails>>>getArgument(2).accept(animals);
+            return null;
+        }).when(inputReadingService).retrieveAnimalsData(eq(file), anyInt(), any());
+    }
+
     private ArgumentMatcher<List<Enclosure>> matchesEnclosuresListToEntity(EnclosuresList enclosuresList) {
         return enclosures -> enclosures.get(0).getName().equals(enclosuresList.enclosures().get(0).name()) &&
                              enclosures.get(0).getSize().equals(enclosuresList.enclosures().get(0).size()) &&
@@ -365,9 +1043,21 @@ public class ZooServiceTest {
                              enclosures.get(1).getObjects().equals(enclosuresList.enclosures().get(1).objects());
     }
 
-    private ArgumentMatcher<Animal> matchesAnimalDetailsToEntity(AnimalDetails animalDetails) {
-        return animal -> animal.getSpecies().equals(animalDetails.species()) &&
-                         animal.getFood().equals(animalDetails.food()) &&
-                         animal.getAmount() == animalDetails.amount();
+    private ArgumentMatcher<List<Animal>> matchesAnimalDetailsToEntities(AnimalDetails animalDetails) {
+        return animals -> animals.size() == 1 &&
+                          animals.get(0).getSpecies().equals(animalDetails.species()) &&
+                          animals.get(0).getFood() == Food.fromLabel(animalDetails.food()).orElse(null) &&
+                          animals.get(0).getAmount() == animalDetails.amount() &&
+                          animals.get(0).getEnclosureId().equals(ENCLOSURE_ID);
+    }
+
+    private static EnclosureOccupancy occupancyOf(Enclosure enclosure) {
+        return new EnclosureOccupancy(
+                enclosure.getId(),
+                enclosure.getSize(),
+                enclosure.getFreeSpace(),
+                enclosure.getCarnivoreGroups(),
+                enclosure.getHerbivoreGroups()
+        );
     }
 }
@@ -0,0 +1,63 @@
+package com.example.zooanimalmanagementsystem.service.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedFileInputStreamTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void reads_file_across_mapped_windows() throws IOException {
+        // given
+        String givenContent = "{\"species\":\"Lion\",\"food\":\"Carnivore\",\"amount\":3}\n".repeat(10);
+        Path givenFile = Files.writeString(directory.resolve("animals.ndjson"), givenContent);
+
+        // when
+        String actualContent;
+        try (InputStream inputStream = new MappedFileInputStream(givenFile, 7)) {
+            actualContent = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        assertThat(actualContent)
+                .isEqualTo(givenContent);
+    }
+
+    @Test
+    void reads_single_bytes_and_signals_end_of_file() throws IOException {
+        // given
+        Path givenFile = Files.writeString(directory.resolve("animals.csv"), "ab");
+
+        // when
+        try (InputStream inputStream = new MappedFileInputStream(givenFile, 1)) {
+
+            // then
+            assertThat(inputStream.read()).isEqualTo('a');
+            assertThat(inputStream.read()).isEqualTo('b');
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void reads_empty_file() throws IOException {
+        // given
+        Path givenFile = Files.createFile(directory.resolve("empty.json"));
+
+        // when
+        try (InputStream inputStream = new MappedFileInputStream(givenFile)) {
+
+            // then
+            assertThat(inputStream.read(new byte[16])).isEqualTo(-1);
+        }
+    }
+}